@@ -81,6 +81,18 @@
 
     private boolean optional;
 
+    /*
+     * NOTE: The ids and the parsed version are derived from mutable state which subclasses may even source from
+     * elsewhere by overriding the getters. Each memo hence records the strings it was derived from and is only reused
+     * while the getters still return those very instances.
+     */
+
+    private IdMemo conflictId;
+
+    private IdMemo id;
+
+    private VersionMemo parsedVersion;
+
     public DefaultArtifact( String groupId, String artifactId, String version, String scope, String type,
                             String classifier, ArtifactHandler artifactHandler )
     {
@@ -223,16 +235,36 @@ public void setRepository( ArtifactRepository repository )
 
     public String getId()
     {
-        return getDependencyConflictId() + ":" + getBaseVersion();
+        String conflictId = getDependencyConflictId();
+        String baseVersion = getBaseVersion();
+
+        IdMemo memo = id;
+        if ( memo == null || !memo.matches( conflictId, baseVersion, null, null ) )
+        {
+            memo = new IdMemo( conflictId, baseVersion, null, null, conflictId + ":" + baseVersion );
+            id = memo;
+        }
+        return memo.id;
     }
 
     public String getDependencyConflictId()
     {
-        StringBuilder sb = new StringBuilder( 128 );
-        sb.append( getGroupId() );
-        sb.append( ":" );
-        appendArtifactTypeClassifierString( sb );
-        return sb.toString();
+        String groupId = getGroupId();
+        String artifactId = getArtifactId();
+        String type = getType();
+        String classifier = getClassifier();
+
+        IdMemo memo = conflictId;
+        if ( memo == null || !memo.matches( groupId, artifactId, type, classifier ) )
+        {
+            StringBuilder sb = new StringBuilder( 128 );
+            sb.append( groupId );
+            sb.append( ":" );
+            appendArtifactTypeClassifierString( sb );
+            memo = new IdMemo( groupId, artifactId, type, classifier, sb.toString() );
+            conflictId = memo;
+        }
+        return memo.id;
     }
 
     private void appendArtifactTypeClassifierString( StringBuilder sb )
@@ -430,8 +462,7 @@ public int compareTo( Artifact a )
                     if ( result == 0 )
                     {
                         // We don't consider the version range in the comparison, just the resolved version
-                        result = new DefaultArtifactVersion( version ).compareTo(
-                            new DefaultArtifactVersion( a.getVersion() ) );
+                        result = toArtifactVersion( version ).compareTo( toArtifactVersion( a ) );
                     }
                 }
             }
@@ -439,6 +470,31 @@ public int compareTo( Artifact a )
         return result;
     }
 
+    private static ArtifactVersion toArtifactVersion( Artifact artifact )
+    {
+        if ( artifact instanceof DefaultArtifact )
+        {
+            return ( (DefaultArtifact) artifact ).toArtifactVersion( artifact.getVersion() );
+        }
+        return new DefaultArtifactVersion( artifact.getVersion() );
+    }
+
+    private ArtifactVersion toArtifactVersion( String version )
+    {
+        if ( version == null )
+        {
+            return new DefaultArtifactVersion( version );
+        }
+
+        VersionMemo memo = parsedVersion;
+        if ( memo == null || memo.version != version )
+        {
+            memo = new VersionMemo( version );
+            parsedVersion = memo;
+        }
+        return memo.parsed;
+    }
+
     public void updateVersion( String version, ArtifactRepository localRepository )
     {
         setResolvedVersion( version );
@@ -594,4 +650,48 @@ public void setOptional( boolean optional )
         this.optional = optional;
     }
 
+    private static final class IdMemo
+    {
+
+        private final String key1;
+
+        private final String key2;
+
+        private final String key3;
+
+        private final String key4;
+
+        final String id;
+
+        IdMemo( String key1, String key2, String key3, String key4, String id )
+        {
+            this.key1 = key1;
+            this.key2 = key2;
+            this.key3 = key3;
+            this.key4 = key4;
+            this.id = id;
+        }
+
+        boolean matches( String key1, String key2, String key3, String key4 )
+        {
+            return this.key1 == key1 && this.key2 == key2 && this.key3 == key3 && this.key4 == key4;
+        }
+
+    }
+
+    private static final class VersionMemo
+    {
+
+        final String version;
+
+        final ArtifactVersion parsed;
+
+        VersionMemo( String version )
+        {
+            this.version = version;
+            this.parsed = new DefaultArtifactVersion( version );
+        }
+
+    }
+
 }
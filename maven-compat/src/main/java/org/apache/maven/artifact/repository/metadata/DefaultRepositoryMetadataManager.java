@@ -28,6 +28,8 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.maven.artifact.metadata.ArtifactMetadata;
 import org.apache.maven.artifact.repository.ArtifactRepository;
@@ -36,6 +38,7 @@
 import org.apache.maven.artifact.repository.RepositoryRequest;
 import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
 import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Writer;
+import org.apache.maven.plugin.LegacySupport;
 import org.apache.maven.repository.legacy.UpdateCheckManager;
 import org.apache.maven.repository.legacy.WagonManager;
 import org.apache.maven.wagon.ResourceDoesNotExistException;
@@ -47,6 +50,8 @@
 import org.codehaus.plexus.util.ReaderFactory;
 import org.codehaus.plexus.util.WriterFactory;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
 
 /**
  * @author Jason van Zyl
@@ -56,12 +61,22 @@
     extends AbstractLogEnabled
     implements RepositoryMetadataManager
 {
+    /**
+     * The key of the metadata cache in the data of the repository session. The cache holds pristine copies of the
+     * metadata files parsed so far, keyed by file. An entry is only used as long as the timestamp and size of the file
+     * still match the ones seen when it was parsed.
+     */
+    private static final Object CACHE_KEY = new Object();
+
     @Requirement
     private WagonManager wagonManager;
 
     @Requirement
     private UpdateCheckManager updateCheckManager;
 
+    @Requirement
+    private LegacySupport legacySupport;
+
     public void resolve( RepositoryMetadata metadata, List<ArtifactRepository> remoteRepositories,
                          ArtifactRepository localRepository )
         throws RepositoryMetadataResolutionException
@@ -129,6 +144,8 @@ else if ( localCopyLastModified != null && !policy.checkOutOfDate( localCopyLast
 
                 if ( update )
                 {
+                    invalidateMetadata( file );
+
                     getLogger().info( metadata.getKey() + ": checking for updates from " + repository.getId() );
                     try
                     {
@@ -172,7 +189,11 @@ else if ( localCopyLastModified != null && !policy.checkOutOfDate( localCopyLast
                 // touch file so that this is not checked again until interval has passed
                 if ( file.exists() )
                 {
-                    file.setLastModified( System.currentTimeMillis() );
+                    long lastModified = file.lastModified();
+                    if ( file.setLastModified( System.currentTimeMillis() ) )
+                    {
+                        touchMetadata( file, lastModified );
+                    }
                 }
             }
         }
@@ -258,6 +279,7 @@ private void updateSnapshotMetadata( RepositoryMetadata metadata,
                         m.getVersioning().getSnapshot().setLocalCopy( false );
                         metadata.setMetadata( m );
                         metadata.storeInLocalRepository( localRepository, repository );
+                        invalidateMetadata( localRepository, metadata, repository );
                     }
                 }
             }
@@ -282,7 +304,7 @@ private boolean loadMetadata( RepositoryMetadata repoMetadata, ArtifactRepositor
 
             try
             {
-                metadata = readMetadata( metadataFile );
+                metadata = readCachedMetadata( metadataFile );
             }
             catch ( RepositoryMetadataReadException e )
             {
@@ -315,6 +337,107 @@ private boolean loadMetadata( RepositoryMetadata repoMetadata, ArtifactRepositor
         return setRepository;
     }
 
+    /**
+     * Reads the specified metadata file, reusing the result of an earlier parse if the file has not changed since.
+     * Callers are free to modify the returned metadata, it is never shared with the cache.
+     */
+    Metadata readCachedMetadata( File metadataFile )
+        throws RepositoryMetadataReadException
+    {
+        long lastModified = metadataFile.lastModified();
+        long length = metadataFile.length();
+
+        Map<File, CachedMetadata> metadataCache = getMetadataCache();
+        if ( metadataCache == null )
+        {
+            return readMetadata( metadataFile );
+        }
+
+        CachedMetadata cached = metadataCache.get( metadataFile );
+        if ( cached != null && cached.isCurrent( lastModified, length ) )
+        {
+            return cached.metadata.clone();
+        }
+
+        Metadata metadata = readMetadata( metadataFile );
+
+        metadataCache.put( metadataFile, new CachedMetadata( metadata.clone(), lastModified, length ) );
+
+        return metadata;
+    }
+
+    /**
+     * Updates the cached timestamp of a metadata file that was merely touched, provided the cache entry was current
+     * before.
+     */
+    private void touchMetadata( File metadataFile, long previousLastModified )
+    {
+        Map<File, CachedMetadata> metadataCache = getMetadataCache();
+        if ( metadataCache == null )
+        {
+            return;
+        }
+
+        CachedMetadata cached = metadataCache.get( metadataFile );
+        if ( cached != null )
+        {
+            long length = metadataFile.length();
+            if ( cached.isCurrent( previousLastModified, length ) )
+            {
+                metadataCache.put( metadataFile,
+                                   new CachedMetadata( cached.metadata, metadataFile.lastModified(), length ) );
+            }
+            else
+            {
+                metadataCache.remove( metadataFile );
+            }
+        }
+    }
+
+    private void invalidateMetadata( File metadataFile )
+    {
+        Map<File, CachedMetadata> metadataCache = getMetadataCache();
+        if ( metadataCache != null )
+        {
+            metadataCache.remove( metadataFile );
+        }
+    }
+
+    private void invalidateMetadata( ArtifactRepository localRepository, ArtifactMetadata metadata,
+                                     ArtifactRepository remoteRepository )
+    {
+        invalidateMetadata( new File( localRepository.getBasedir(),
+                                      localRepository.pathOfLocalRepositoryMetadata( metadata, remoteRepository ) ) );
+    }
+
+    /**
+     * Gets the metadata cache of the current repository session. The cache lives only as long as the session, so
+     * metadata changed by other processes between builds is picked up and a long-lived container doesn't accumulate
+     * entries.
+     *
+     * @return The metadata cache or {@code null} if there is no repository session to cache the metadata in.
+     */
+    @SuppressWarnings( "unchecked" )
+    private ConcurrentMap<File, CachedMetadata> getMetadataCache()
+    {
+        RepositorySystemSession session = legacySupport.getRepositorySession();
+        if ( session == null )
+        {
+            return null;
+        }
+
+        SessionData data = session.getData();
+
+        Object cache = data.get( CACHE_KEY );
+        while ( !( cache instanceof ConcurrentMap ) )
+        {
+            data.set( CACHE_KEY, cache, new ConcurrentHashMap<File, CachedMetadata>( 256 ) );
+            cache = data.get( CACHE_KEY );
+        }
+
+        return (ConcurrentMap<File, CachedMetadata>) cache;
+    }
+
     /** @todo share with DefaultPluginMappingManager. */
     protected Metadata readMetadata( File mappingFile )
         throws RepositoryMetadataReadException
@@ -385,6 +508,8 @@ private void fixTimestamp( File metadataFile, Metadata metadata, Metadata refere
         {
             getLogger().debug( "Repairing metadata in " + metadataFile );
 
+            invalidateMetadata( metadataFile );
+
             Writer writer = null;
             try
             {
@@ -429,7 +554,7 @@ public void resolveAlways( RepositoryMetadata metadata, ArtifactRepository local
         {
             if ( file.exists() )
             {
-                Metadata prevMetadata = readMetadata( file );
+                Metadata prevMetadata = readCachedMetadata( file );
                 metadata.setMetadata( prevMetadata );
             }
         }
@@ -447,6 +572,8 @@ private File getArtifactMetadataFromDeploymentRepository( ArtifactMetadata metad
         File file =
             new File( localRepo.getBasedir(), localRepo.pathOfLocalRepositoryMetadata( metadata, remoteRepository ) );
 
+        invalidateMetadata( file );
+
         try
         {
             wagonManager.getArtifactMetadataFromDeploymentRepository( metadata, remoteRepository, file,
@@ -531,6 +658,10 @@ public void deploy( ArtifactMetadata metadata, ArtifactRepository localRepositor
         {
             throw new RepositoryMetadataDeploymentException( "Error installing metadata: " + e.getMessage(), e );
         }
+        finally
+        {
+            invalidateMetadata( localRepository, metadata, deploymentRepository );
+        }
 
         try
         {
@@ -553,6 +684,33 @@ public void install( ArtifactMetadata metadata, ArtifactRepository localReposito
         {
             throw new RepositoryMetadataInstallationException( "Error installing metadata: " + e.getMessage(), e );
         }
+        finally
+        {
+            invalidateMetadata( localRepository, metadata, localRepository );
+        }
+    }
+
+    private static final class CachedMetadata
+    {
+
+        final Metadata metadata;
+
+        final long lastModified;
+
+        final long length;
+
+        CachedMetadata( Metadata metadata, long lastModified, long length )
+        {
+            this.metadata = metadata;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        boolean isCurrent( long lastModified, long length )
+        {
+            return this.lastModified == lastModified && this.length == length;
+        }
+
     }
 
 }
@@ -21,6 +21,7 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -118,6 +119,8 @@ public ArtifactResolutionResult collect( Set<Artifact> artifacts, Artifact origi
 
         Map<Object, List<ResolutionNode>> resolvedArtifacts = new LinkedHashMap<Object, List<ResolutionNode>>();
 
+        Map<Object, List<ResolutionNode>> activeArtifacts = new HashMap<Object, List<ResolutionNode>>();
+
         ResolutionNode root = new ResolutionNode( originatingArtifact, repositoryRequest.getRemoteRepositories() );
 
         try
@@ -141,8 +144,8 @@ public ArtifactResolutionResult collect( Set<Artifact> artifacts, Artifact origi
 
         try
         {
-            recurse( result, root, resolvedArtifacts, versionMap, repositoryRequest, source, filter, listeners,
-                     conflictResolvers );
+            recurse( result, root, resolvedArtifacts, activeArtifacts, versionMap, repositoryRequest, source, filter,
+                     listeners, conflictResolvers );
         }
         catch ( CyclicDependencyException e )
         {
@@ -236,8 +239,16 @@ private ManagedVersionMap getManagedVersionsMap( Artifact originatingArtifact, M
         return versionMap;
     }
 
+    /**
+     * @param resolvedArtifacts all nodes visited so far, grouped by conflict id, in the order they were visited
+     * @param activeArtifacts the subset of the resolved nodes that were still active when last looked at, grouped by
+     *            conflict id. Nodes never get enabled again once disabled during collection, so inactive nodes are
+     *            pruned from here lazily to keep version mediation from rescanning every earlier occurrence of an
+     *            artifact.
+     */
     private void recurse( ArtifactResolutionResult result, ResolutionNode node,
-                          Map<Object, List<ResolutionNode>> resolvedArtifacts, ManagedVersionMap managedVersions,
+                          Map<Object, List<ResolutionNode>> resolvedArtifacts,
+                          Map<Object, List<ResolutionNode>> activeArtifacts, ManagedVersionMap managedVersions,
                           ArtifactResolutionRequest request, ArtifactMetadataSource source, ArtifactFilter filter,
                           List<ResolutionListener> listeners, List<ConflictResolver> conflictResolvers )
         throws ArtifactResolutionException
@@ -253,12 +264,14 @@ private void recurse( ArtifactResolutionResult result, ResolutionNode node,
             manageArtifact( node, managedVersions, listeners );
         }
 
-        List<ResolutionNode> previousNodes = resolvedArtifacts.get( key );
+        List<ResolutionNode> previousNodes = activeArtifacts.get( key );
 
         if ( previousNodes != null )
         {
-            for ( ResolutionNode previous : previousNodes )
+            for ( Iterator<ResolutionNode> it = previousNodes.iterator(); it.hasNext(); )
             {
+                ResolutionNode previous = it.next();
+
                 try
                 {
                     if ( previous.isActive() )
@@ -397,6 +410,10 @@ private void recurse( ArtifactResolutionResult result, ResolutionNode node,
                             fireEvent( ResolutionListener.OMIT_FOR_NEARER, listeners, farthest, nearest.getArtifact() );
                         }
                     }
+                    else
+                    {
+                        it.remove();
+                    }
                 }
                 catch ( OverConstrainedVersionException e )
                 {
@@ -406,14 +423,24 @@ private void recurse( ArtifactResolutionResult result, ResolutionNode node,
         }
         else
         {
-            previousNodes = new ArrayList<ResolutionNode>();
+            previousNodes = new ArrayList<ResolutionNode>( 2 );
+
+            activeArtifacts.put( key, previousNodes );
+        }
+
+        List<ResolutionNode> nodes = resolvedArtifacts.get( key );
+        if ( nodes == null )
+        {
+            nodes = new ArrayList<ResolutionNode>();
 
-            resolvedArtifacts.put( key, previousNodes );
+            resolvedArtifacts.put( key, nodes );
         }
-        previousNodes.add( node );
+        nodes.add( node );
 
         if ( node.isActive() )
         {
+            previousNodes.add( node );
+
             fireEvent( ResolutionListener.INCLUDE_ARTIFACT, listeners, node );
         }
 
@@ -581,8 +608,8 @@ private void recurse( ArtifactResolutionResult result, ResolutionNode node,
                         subRequest.setServers( request.getServers() );
                         subRequest.setMirrors( request.getMirrors() );
                         subRequest.setProxies( request.getProxies() );
-                        recurse( result, child, resolvedArtifacts, managedVersions, subRequest, source, filter,
-                                 listeners, conflictResolvers );
+                        recurse( result, child, resolvedArtifacts, activeArtifacts, managedVersions, subRequest,
+                                 source, filter, listeners, conflictResolvers );
                     }
                 }
                 catch ( OverConstrainedVersionException e )
@@ -19,10 +19,11 @@
  * under the License.
  */
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.maven.artifact.ArtifactScopeEnum;
 import org.codehaus.plexus.component.annotations.Component;
@@ -93,7 +94,7 @@ public ClasspathContainer transform( MetadataGraph dirtyGraph, ArtifactScopeEnum
 
         ClasspathContainer cpc;
 
-        List<MetadataGraphVertex> visited;
+        Set<MetadataGraphVertex> visited;
 
         // -----------------------------------------------------------------------
         protected ClasspathGraphVisitor( MetadataGraph cleanGraph, ClasspathContainer cpc )
@@ -101,14 +102,14 @@ protected ClasspathGraphVisitor( MetadataGraph cleanGraph, ClasspathContainer cp
             this.cpc = cpc;
             this.graph = cleanGraph;
 
-            visited = new ArrayList<MetadataGraphVertex>( cleanGraph.getVertices().size() );
+            visited = new TreeSet<MetadataGraphVertex>();
         }
 
         // -----------------------------------------------------------------------
         protected void visit( MetadataGraphVertex node ) // , String version, String artifactUri )
         {
             ArtifactMetadata md = node.getMd();
-            if ( visited.contains( node ) )
+            if ( !visited.add( node ) )
             {
                 return;
             }
@@ -21,6 +21,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 
 import org.apache.maven.artifact.ArtifactScopeEnum;
@@ -153,7 +154,7 @@ private MetadataGraph findLinkedSubgraph( MetadataGraph g )
             return g;
         }
 
-        List<MetadataGraphVertex> visited = new ArrayList<MetadataGraphVertex>( g.getVertices().size() );
+        Set<MetadataGraphVertex> visited = new TreeSet<MetadataGraphVertex>();
         visit( g.getEntry(), visited, g );
 
         List<MetadataGraphVertex> dropList = new ArrayList<MetadataGraphVertex>( g.getVertices().size() );
@@ -183,15 +184,13 @@ private MetadataGraph findLinkedSubgraph( MetadataGraph g )
     }
 
     // -------------------------------------------------------------------------------------
-    private void visit( MetadataGraphVertex from, List<MetadataGraphVertex> visited, MetadataGraph graph )
+    private void visit( MetadataGraphVertex from, Set<MetadataGraphVertex> visited, MetadataGraph graph )
     {
-        if ( visited.contains( from ) )
+        if ( !visited.add( from ) )
         {
             return;
         }
 
-        visited.add( from );
-
         List<MetadataGraphEdge> exitList = graph.getExcidentEdges( from );
         // String s = "|---> "+from.getMd().toString()+" - "+(exitList == null ? -1 : exitList.size()) + " exit links";
         if ( exitList != null && exitList.size() > 0 )
@@ -178,12 +178,11 @@ public MetadataGraphVertex findVertex( ArtifactMetadata md )
         v.setCompareVersion( versionedVertices );
         v.setCompareScope( scopedVertices );
 
-        for ( MetadataGraphVertex gv : vertices )
+        // vertices are ordered by the same comparison that defines their equality, no need to scan them all
+        MetadataGraphVertex gv = vertices.ceiling( v );
+        if ( gv != null && gv.equals( v ) )
         {
-            if ( gv.equals( v ) )
-            {
-                return gv;
-            }
+            return gv;
         }
 
         return null;
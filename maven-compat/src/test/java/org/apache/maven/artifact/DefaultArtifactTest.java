@@ -76,6 +76,21 @@ public void testGetDependencyConflictIdNullGroupId()
         assertEquals( null + ":" + artifactId + ":" + type + ":" + classifier, artifact.getDependencyConflictId() );
     }
 
+    public void testGetDependencyConflictIdAfterGroupIdChange()
+    {
+        assertEquals( groupId + ":" + artifactId + ":" + type + ":" + classifier, artifact.getDependencyConflictId() );
+        artifact.setGroupId( "other" );
+        assertEquals( "other:" + artifactId + ":" + type + ":" + classifier, artifact.getDependencyConflictId() );
+        assertEquals( "other:" + artifactId + ":" + type + ":" + classifier + ":" + version, artifact.getId() );
+    }
+
+    public void testGetIdAfterVersionChange()
+    {
+        assertEquals( groupId + ":" + artifactId + ":" + type + ":" + classifier + ":" + version, artifact.getId() );
+        artifact.setVersion( "2.0" );
+        assertEquals( groupId + ":" + artifactId + ":" + type + ":" + classifier + ":2.0", artifact.getId() );
+    }
+
     public void testGetDependencyConflictIdNullClassifier()
     {
         artifact = new DefaultArtifact( groupId, artifactId, versionRange, scope, type, null, artifactHandler );
@@ -128,6 +143,19 @@ public void testComparisonByVersion()
         assertTrue( artifact1.compareTo( artifact ) == 0 );
     }
 
+    public void testComparisonAfterVersionChange()
+    {
+        Artifact artifact1 = new DefaultArtifact( groupId, artifactId, VersionRange.createFromVersion( "5.0" ), scope,
+                                                  type, classifier, artifactHandler );
+        Artifact artifact2 = new DefaultArtifact( groupId, artifactId, VersionRange.createFromVersion( "12.0" ), scope,
+                                                  type, classifier, artifactHandler );
+
+        assertTrue( artifact1.compareTo( artifact2 ) < 0 );
+        artifact1.setVersion( "13.0" );
+        assertTrue( artifact1.compareTo( artifact2 ) > 0 );
+        assertTrue( artifact2.compareTo( artifact1 ) < 0 );
+    }
+
     public void testNonResolvedVersionRangeConsistentlyYieldsNullVersions()
         throws Exception
     {
@@ -0,0 +1,192 @@
+package org.apache.maven.artifact.repository.metadata;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Writer;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.LegacySupport;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.codehaus.plexus.util.WriterFactory;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+
+public class DefaultRepositoryMetadataManagerTest
+    extends TestCase
+{
+
+    private DefaultRepositoryMetadataManager manager;
+
+    private RepositorySystemSession session;
+
+    private File file;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        session = new DefaultRepositorySystemSession();
+
+        manager = new DefaultRepositoryMetadataManager();
+        manager.enableLogging( new ConsoleLogger() );
+        ReflectionUtils.setVariableValueInObject( manager, "legacySupport", new LegacySupport()
+        {
+            public void setSession( MavenSession session )
+            {
+            }
+
+            public MavenSession getSession()
+            {
+                return null;
+            }
+
+            public RepositorySystemSession getRepositorySession()
+            {
+                return session;
+            }
+        } );
+
+        file = File.createTempFile( "maven-metadata", ".xml" );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        file.delete();
+
+        super.tearDown();
+    }
+
+    private void writeMetadata( String version, long lastModified )
+        throws IOException
+    {
+        Metadata metadata = new Metadata();
+        metadata.setGroupId( "org.apache.maven" );
+        metadata.setArtifactId( "maven-core" );
+        metadata.setVersion( version );
+
+        Writer writer = WriterFactory.newXmlWriter( file );
+        try
+        {
+            new MetadataXpp3Writer().write( writer, metadata );
+        }
+        finally
+        {
+            IOUtil.close( writer );
+        }
+
+        file.setLastModified( lastModified );
+    }
+
+    public void testReturnsClonesOfCachedMetadata()
+        throws Exception
+    {
+        writeMetadata( "1.0", 100000 );
+
+        Metadata metadata = manager.readCachedMetadata( file );
+        metadata.setVersion( "2.0" );
+
+        Metadata cached = manager.readCachedMetadata( file );
+        assertNotSame( metadata, cached );
+        assertEquals( "1.0", cached.getVersion() );
+    }
+
+    public void testReusesMetadataOfUnchangedFile()
+        throws Exception
+    {
+        writeMetadata( "1.0", 100000 );
+        manager.readCachedMetadata( file );
+
+        // same size and timestamp, so the cached metadata is still considered current
+        FileUtils.fileWrite( file.getAbsolutePath(), "UTF-8",
+                             FileUtils.fileRead( file, "UTF-8" ).replace( ">1.0<", ">1.1<" ) );
+        file.setLastModified( 100000 );
+
+        assertEquals( "1.0", manager.readCachedMetadata( file ).getVersion() );
+    }
+
+    public void testReparsesFileWithChangedTimestamp()
+        throws Exception
+    {
+        writeMetadata( "1.0", 100000 );
+        manager.readCachedMetadata( file );
+
+        writeMetadata( "1.1", 200000 );
+
+        assertEquals( "1.1", manager.readCachedMetadata( file ).getVersion() );
+    }
+
+    public void testReparsesFileWithChangedSize()
+        throws Exception
+    {
+        writeMetadata( "1.0", 100000 );
+        manager.readCachedMetadata( file );
+
+        writeMetadata( "1.0.1", 100000 );
+
+        assertEquals( "1.0.1", manager.readCachedMetadata( file ).getVersion() );
+    }
+
+    public void testDeletedFileIsNotServedFromCache()
+        throws Exception
+    {
+        writeMetadata( "1.0", 100000 );
+        manager.readCachedMetadata( file );
+
+        assertTrue( file.delete() );
+
+        try
+        {
+            manager.readCachedMetadata( file );
+            fail( "deleted metadata file served from cache" );
+        }
+        catch ( RepositoryMetadataReadException e )
+        {
+            // expected
+        }
+    }
+
+    public void testCacheIsScopedToRepositorySession()
+        throws Exception
+    {
+        writeMetadata( "1.0", 100000 );
+        manager.readCachedMetadata( file );
+
+        FileUtils.fileWrite( file.getAbsolutePath(), "UTF-8",
+                             FileUtils.fileRead( file, "UTF-8" ).replace( ">1.0<", ">1.1<" ) );
+        file.setLastModified( 100000 );
+
+        session = new DefaultRepositorySystemSession();
+
+        assertEquals( "1.1", manager.readCachedMetadata( file ).getVersion() );
+    }
+
+}
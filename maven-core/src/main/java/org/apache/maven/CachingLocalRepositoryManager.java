@@ -0,0 +1,138 @@
+package org.apache.maven;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.LocalArtifactRegistration;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalMetadataRegistration;
+import org.eclipse.aether.repository.LocalMetadataRequest;
+import org.eclipse.aether.repository.LocalMetadataResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Remembers the artifacts found in the local repository for the duration of a build session. In a reactor, the same
+ * dependencies get looked up by every module and each lookup costs file system accesses which are notably slow on
+ * network or overlay file systems. Only artifacts that were found to be available are remembered, artifacts that are
+ * missing are looked up again each time such that downloads and installations during the build are picked up. Enabled
+ * by setting the property {@code maven.repo.local.cache} to {@code true}, files deleted from the local repository
+ * while the build is running go unnoticed then.
+ *
+ * @since 3.2.4
+ */
+class CachingLocalRepositoryManager
+    implements LocalRepositoryManager
+{
+
+    static final String CONFIG_PROP_CACHE = "maven.repo.local.cache";
+
+    private final LocalRepositoryManager delegate;
+
+    private final ConcurrentMap<Object, LocalArtifactResult> artifacts =
+        new ConcurrentHashMap<Object, LocalArtifactResult>();
+
+    public CachingLocalRepositoryManager( LocalRepositoryManager delegate )
+    {
+        if ( delegate == null )
+        {
+            throw new IllegalArgumentException( "local repository manager delegate missing" );
+        }
+        this.delegate = delegate;
+    }
+
+    public LocalRepository getRepository()
+    {
+        return delegate.getRepository();
+    }
+
+    public String getPathForLocalArtifact( Artifact artifact )
+    {
+        return delegate.getPathForLocalArtifact( artifact );
+    }
+
+    public String getPathForRemoteArtifact( Artifact artifact, RemoteRepository repository, String context )
+    {
+        return delegate.getPathForRemoteArtifact( artifact, repository, context );
+    }
+
+    public String getPathForLocalMetadata( Metadata metadata )
+    {
+        return delegate.getPathForLocalMetadata( metadata );
+    }
+
+    public String getPathForRemoteMetadata( Metadata metadata, RemoteRepository repository, String context )
+    {
+        return delegate.getPathForRemoteMetadata( metadata, repository, context );
+    }
+
+    public LocalArtifactResult find( RepositorySystemSession session, LocalArtifactRequest request )
+    {
+        // the availability of an artifact depends on the repositories it is requested from
+        Object key = Arrays.<Object> asList( request.getArtifact(), request.getContext(), request.getRepositories() );
+
+        LocalArtifactResult cached = artifacts.get( key );
+        if ( cached != null )
+        {
+            LocalArtifactResult result = new LocalArtifactResult( request );
+            result.setFile( cached.getFile() );
+            result.setAvailable( true );
+            result.setRepository( cached.getRepository() );
+            return result;
+        }
+
+        LocalArtifactResult result = delegate.find( session, request );
+        if ( result.isAvailable() && result.getFile() != null )
+        {
+            artifacts.put( key, result );
+        }
+        return result;
+    }
+
+    public void add( RepositorySystemSession session, LocalArtifactRegistration request )
+    {
+        delegate.add( session, request );
+    }
+
+    public LocalMetadataResult find( RepositorySystemSession session, LocalMetadataRequest request )
+    {
+        return delegate.find( session, request );
+    }
+
+    public void add( RepositorySystemSession session, LocalMetadataRegistration request )
+    {
+        delegate.add( session, request );
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.valueOf( delegate );
+    }
+
+}
@@ -22,6 +22,7 @@
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.metadata.ArtifactMetadata;
@@ -60,6 +61,8 @@
 
     private final boolean realLocalRepo;
 
+    private final boolean defaultLayout;
+
     public static RepositorySystemSession overlay( ArtifactRepository repository, RepositorySystemSession session,
                                                    RepositorySystem system )
     {
@@ -112,6 +115,15 @@ private LegacyLocalRepositoryManager( ArtifactRepository delegate )
          * flag tries to detect which use case applies to make both plugins happy.
          */
         realLocalRepo = ( layout instanceof DefaultRepositoryLayout ) && "local".equals( delegate.getId() );
+
+        /*
+         * NOTE: Paths for the stock repository and layout can be formatted directly from the Aether coordinates, which
+         * saves the conversion into a Maven artifact (incl. its artifact handler and dependency trail) on every lookup.
+         * Subclasses might override pathOf() so they keep going through the delegate.
+         */
+        defaultLayout =
+            delegate.getClass() == MavenArtifactRepository.class && layout != null
+                && layout.getClass() == DefaultRepositoryLayout.class;
     }
 
     public LocalRepository getRepository()
@@ -123,16 +135,63 @@ public String getPathForLocalArtifact( Artifact artifact )
     {
         if ( realLocalRepo )
         {
-            return delegate.pathOf( RepositoryUtils.toArtifact( artifact.setVersion( artifact.getBaseVersion() ) ) );
+            return pathOf( artifact.setVersion( artifact.getBaseVersion() ) );
         }
-        return delegate.pathOf( RepositoryUtils.toArtifact( artifact ) );
+        return pathOf( artifact );
     }
 
     public String getPathForRemoteArtifact( Artifact artifact, RemoteRepository repository, String context )
     {
+        return pathOf( artifact );
+    }
+
+    private String pathOf( Artifact artifact )
+    {
+        if ( defaultLayout && isFormattable( artifact ) )
+        {
+            return DefaultRepositoryLayout.pathOf( artifact.getGroupId(), artifact.getArtifactId(),
+                                                   toBaseVersion( artifact.getVersion() ), artifact.getVersion(),
+                                                   artifact.getClassifier(), artifact.getExtension() );
+        }
         return delegate.pathOf( RepositoryUtils.toArtifact( artifact ) );
     }
 
+    private static boolean isFormattable( Artifact artifact )
+    {
+        // anything else is rejected by the Maven artifact, so let the regular conversion report it
+        return artifact.getGroupId().trim().length() > 0 && artifact.getArtifactId().trim().length() > 0
+            && artifact.getVersion().length() > 0 && artifact.getExtension().length() > 0;
+    }
+
+    /**
+     * Gets the base version exactly like the Maven artifact does, i.e. using
+     * {@link org.apache.maven.artifact.Artifact#VERSION_FILE_PATTERN} which is not quite the pattern used by Aether.
+     * The pattern is only evaluated for versions whose tail looks like a snapshot timestamp.
+     */
+    private static String toBaseVersion( String version )
+    {
+        int dash = version.lastIndexOf( '-' );
+        if ( dash < 16 || dash >= version.length() - 1 || version.charAt( dash - 16 ) != '-' )
+        {
+            return version;
+        }
+        for ( int i = dash + 1; i < version.length(); i++ )
+        {
+            char c = version.charAt( i );
+            if ( c < '0' || c > '9' )
+            {
+                return version;
+            }
+        }
+
+        Matcher m = org.apache.maven.artifact.Artifact.VERSION_FILE_PATTERN.matcher( version );
+        if ( m.matches() )
+        {
+            return m.group( 1 ) + "-" + org.apache.maven.artifact.Artifact.SNAPSHOT_VERSION;
+        }
+        return version;
+    }
+
     public String getPathForLocalMetadata( Metadata metadata )
     {
         return delegate.pathOfLocalRepositoryMetadata( new ArtifactMetadataAdapter( metadata ), delegate );
@@ -47,21 +47,41 @@ public String pathOf( Artifact artifact )
     {
         ArtifactHandler artifactHandler = artifact.getArtifactHandler();
 
+        return pathOf( artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(),
+                       artifact.getVersion(), artifact.hasClassifier() ? artifact.getClassifier() : null,
+                       artifactHandler.getExtension() );
+    }
+
+    /**
+     * Formats the path of an artifact from its plain coordinates.
+     *
+     * @param groupId The group id of the artifact, must not be {@code null}.
+     * @param artifactId The artifact id of the artifact, must not be {@code null}.
+     * @param baseVersion The base version of the artifact, must not be {@code null}.
+     * @param version The version of the artifact, must not be {@code null}.
+     * @param classifier The classifier of the artifact, may be {@code null} or empty.
+     * @param extension The file extension of the artifact, may be {@code null} or empty.
+     * @return The path of the artifact relative to the repository root, never {@code null}.
+     * @since 3.2.4
+     */
+    public static String pathOf( String groupId, String artifactId, String baseVersion, String version,
+                                 String classifier, String extension )
+    {
         StringBuilder path = new StringBuilder( 128 );
 
-        path.append( formatAsDirectory( artifact.getGroupId() ) ).append( PATH_SEPARATOR );
-        path.append( artifact.getArtifactId() ).append( PATH_SEPARATOR );
-        path.append( artifact.getBaseVersion() ).append( PATH_SEPARATOR );
-        path.append( artifact.getArtifactId() ).append( ARTIFACT_SEPARATOR ).append( artifact.getVersion() );
+        appendAsDirectory( path, groupId ).append( PATH_SEPARATOR );
+        path.append( artifactId ).append( PATH_SEPARATOR );
+        path.append( baseVersion ).append( PATH_SEPARATOR );
+        path.append( artifactId ).append( ARTIFACT_SEPARATOR ).append( version );
 
-        if ( artifact.hasClassifier() )
+        if ( classifier != null && classifier.length() > 0 )
         {
-            path.append( ARTIFACT_SEPARATOR ).append( artifact.getClassifier() );
+            path.append( ARTIFACT_SEPARATOR ).append( classifier );
         }
 
-        if ( artifactHandler.getExtension() != null && artifactHandler.getExtension().length() > 0 )
+        if ( extension != null && extension.length() > 0 )
         {
-            path.append( GROUP_SEPARATOR ).append( artifactHandler.getExtension() );
+            path.append( GROUP_SEPARATOR ).append( extension );
         }
 
         return path.toString();
@@ -77,7 +97,7 @@ private String pathOfRepositoryMetadata( ArtifactMetadata metadata,
     {
         StringBuilder path = new StringBuilder( 128 );
 
-        path.append( formatAsDirectory( metadata.getGroupId() ) ).append( PATH_SEPARATOR );
+        appendAsDirectory( path, metadata.getGroupId() ).append( PATH_SEPARATOR );
         if ( !metadata.storedInGroupDirectory() )
         {
             path.append( metadata.getArtifactId() ).append( PATH_SEPARATOR );
@@ -98,9 +118,14 @@ public String pathOfRemoteRepositoryMetadata( ArtifactMetadata metadata )
         return pathOfRepositoryMetadata( metadata, metadata.getRemoteFilename() );
     }
 
-    private String formatAsDirectory( String directory )
+    private static StringBuilder appendAsDirectory( StringBuilder path, String directory )
     {
-        return directory.replace( GROUP_SEPARATOR, PATH_SEPARATOR );
+        for ( int i = 0, n = directory.length(); i < n; i++ )
+        {
+            char c = directory.charAt( i );
+            path.append( ( c == GROUP_SEPARATOR ) ? PATH_SEPARATOR : c );
+        }
+        return path;
     }
 
     @Override
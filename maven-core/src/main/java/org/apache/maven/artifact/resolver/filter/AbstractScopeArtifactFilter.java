@@ -78,23 +78,25 @@ else if ( Artifact.SCOPE_TEST.equals( scope ) )
 
     public boolean include( Artifact artifact )
     {
-        if ( Artifact.SCOPE_COMPILE.equals( artifact.getScope() ) )
+        String scope = artifact.getScope();
+
+        if ( Artifact.SCOPE_COMPILE.equals( scope ) )
         {
             return compileScope;
         }
-        else if ( Artifact.SCOPE_RUNTIME.equals( artifact.getScope() ) )
+        else if ( Artifact.SCOPE_RUNTIME.equals( scope ) )
         {
             return runtimeScope;
         }
-        else if ( Artifact.SCOPE_TEST.equals( artifact.getScope() ) )
+        else if ( Artifact.SCOPE_TEST.equals( scope ) )
         {
             return testScope;
         }
-        else if ( Artifact.SCOPE_PROVIDED.equals( artifact.getScope() ) )
+        else if ( Artifact.SCOPE_PROVIDED.equals( scope ) )
         {
             return providedScope;
         }
-        else if ( Artifact.SCOPE_SYSTEM.equals( artifact.getScope() ) )
+        else if ( Artifact.SCOPE_SYSTEM.equals( scope ) )
         {
             return systemScope;
         }
@@ -20,7 +20,6 @@
  */
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -44,18 +43,15 @@ public IncludesArtifactFilter( List<String> patterns )
 
     public boolean include( Artifact artifact )
     {
-        String id = artifact.getGroupId() + ":" + artifact.getArtifactId();
-
-        boolean matched = false;
-        for ( Iterator<String> i = patterns.iterator(); i.hasNext() & !matched; )
+        if ( patterns.isEmpty() )
         {
-            // TODO: what about wildcards? Just specifying groups? versions?
-            if ( id.equals( i.next() ) )
-            {
-                matched = true;
-            }
+            return false;
         }
-        return matched;
+
+        String id = artifact.getGroupId() + ":" + artifact.getArtifactId();
+
+        // TODO: what about wildcards? Just specifying groups? versions?
+        return patterns.contains( id );
     }
 
     public List<String> getPatterns()
@@ -240,7 +240,10 @@ private void importMavenApi( Map<String, ClassLoader> imports )
     private ClassRealm createRealm( String baseRealmId, RealmType type, ClassLoader parent, List<String> parentImports,
                                     Map<String, ClassLoader> foreignImports, List<Artifact> artifacts )
     {
-        Set<String> artifactIds = new LinkedHashSet<String>();
+        boolean debug = logger.isDebugEnabled();
+
+        // the artifact ids are only needed to log the excluded artifacts
+        Set<String> artifactIds = debug ? new LinkedHashSet<String>() : null;
 
         List<ClassRealmConstituent> constituents = new ArrayList<ClassRealmConstituent>();
 
@@ -248,7 +251,10 @@ private ClassRealm createRealm( String baseRealmId, RealmType type, ClassLoader
         {
             for ( Artifact artifact : artifacts )
             {
-                artifactIds.add( getId( artifact ) );
+                if ( debug )
+                {
+                    artifactIds.add( getId( artifact ) );
+                }
                 if ( artifact.getFile() != null )
                 {
                     constituents.add( new ArtifactClassRealmConstituent( artifact ) );
@@ -287,7 +293,7 @@ private ClassRealm createRealm( String baseRealmId, RealmType type, ClassLoader
 
         Set<String> includedIds = populateRealm( classRealm, constituents );
 
-        if ( logger.isDebugEnabled() )
+        if ( debug )
         {
             artifactIds.removeAll( includedIds );
 
@@ -418,9 +424,12 @@ private void callDelegates( ClassRealm classRealm, RealmType type, ClassLoader p
 
     private Set<String> populateRealm( ClassRealm classRealm, List<ClassRealmConstituent> constituents )
     {
+        // only collected for the debug log
         Set<String> includedIds = new LinkedHashSet<String>();
 
-        if ( logger.isDebugEnabled() )
+        boolean debug = logger.isDebugEnabled();
+
+        if ( debug )
         {
             logger.debug( "Populating class realm " + classRealm.getId() );
         }
@@ -429,11 +438,11 @@ private Set<String> populateRealm( ClassRealm classRealm, List<ClassRealmConstit
         {
             File file = constituent.getFile();
 
-            String id = getId( constituent );
-            includedIds.add( id );
-
-            if ( logger.isDebugEnabled() )
+            if ( debug )
             {
+                String id = getId( constituent );
+                includedIds.add( id );
+
                 logger.debug( "  Included: " + id );
             }
 
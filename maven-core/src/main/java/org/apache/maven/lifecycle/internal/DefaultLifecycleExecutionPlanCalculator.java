@@ -27,6 +27,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.lifecycle.DefaultLifecycles;
@@ -56,6 +57,7 @@
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.codehaus.plexus.util.StringUtils;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
@@ -92,6 +94,16 @@
     @Requirement
     private Map<String, LifecycleMappingDelegate> delegates;
 
+    /*
+     * NOTE: The default configuration of a mojo is needed for each of its executions in each project. It is only read
+     * by finalizeMojoConfiguration() which copies anything it takes over into the final configuration, so the DOM can
+     * be shared. The plugin descriptor cache hands out a fresh copy of the mojo descriptors on every lookup, so the
+     * entries are keyed by mojo id. The copies are shallow and share the configuration parsed from the plugin
+     * descriptor, which identifies the source the defaults were converted from.
+     */
+    private final Map<String, DefaultConfiguration> defaultConfigurations =
+        new ConcurrentHashMap<String, DefaultConfiguration>();
+
     @SuppressWarnings( { "UnusedDeclaration" } )
     public DefaultLifecycleExecutionPlanCalculator()
     {
@@ -322,7 +334,7 @@ private PluginExecution findPluginExecution( String executionId, Collection<Plug
      *
      * @param mojoExecution The mojo execution whose configuration should be finalized, must not be {@code null}.
      */
-    private void finalizeMojoConfiguration( MojoExecution mojoExecution )
+    void finalizeMojoConfiguration( MojoExecution mojoExecution )
     {
         MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
 
@@ -370,9 +382,42 @@ private void finalizeMojoConfiguration( MojoExecution mojoExecution )
         mojoExecution.setConfiguration( finalConfiguration );
     }
 
-    private Xpp3Dom getMojoConfiguration( MojoDescriptor mojoDescriptor )
+    Xpp3Dom getMojoConfiguration( MojoDescriptor mojoDescriptor )
+    {
+        if ( mojoDescriptor.getPluginDescriptor() == null )
+        {
+            return MojoDescriptorCreator.convert( mojoDescriptor );
+        }
+
+        PlexusConfiguration source = mojoDescriptor.getMojoConfiguration();
+
+        String key = mojoDescriptor.getId();
+
+        DefaultConfiguration configuration = defaultConfigurations.get( key );
+
+        // a reloaded plugin descriptor or a replaced configuration must not get stale defaults
+        if ( configuration == null || configuration.source != source )
+        {
+            configuration = new DefaultConfiguration( source, MojoDescriptorCreator.convert( mojoDescriptor ) );
+            defaultConfigurations.put( key, configuration );
+        }
+
+        return configuration.dom;
+    }
+
+    private static class DefaultConfiguration
     {
-        return MojoDescriptorCreator.convert( mojoDescriptor );
+
+        final PlexusConfiguration source;
+
+        final Xpp3Dom dom;
+
+        DefaultConfiguration( PlexusConfiguration source, Xpp3Dom dom )
+        {
+            this.source = source;
+            this.dom = dom;
+        }
+
     }
 
     public void calculateForkedExecutions( MojoExecution mojoExecution, MavenSession session )
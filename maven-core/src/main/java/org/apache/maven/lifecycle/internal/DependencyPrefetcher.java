@@ -0,0 +1,253 @@
+package org.apache.maven.lifecycle.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.maven.RepositoryUtils;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.annotations.Component;
+import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
+import org.codehaus.plexus.util.StringUtils;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.filter.AndDependencyFilter;
+import org.eclipse.aether.util.filter.ScopeDependencyFilter;
+
+/**
+ * Downloads the external dependencies of upcoming reactor projects in the background while the current project is
+ * being built. Enabled by setting the property {@code maven.dependencies.prefetch} to the number of projects to look
+ * ahead, only applies to builds that are not parallel. The prefetch never touches the state of the projects, it merely
+ * fills the local repository. The actual dependency resolution still happens on the build thread, after the prefetch
+ * for the project has completed, so the build result is the same with or without prefetching. Dependencies on reactor
+ * projects are not prefetched since they might not have been built yet.
+ *
+ * @since 3.2.4
+ *        <p/>
+ *        NOTE: This class is not part of any public api and can be changed or deleted without prior notice.
+ */
+@Component( role = DependencyPrefetcher.class )
+public class DependencyPrefetcher
+    implements Disposable
+{
+
+    static final String CONFIG_PROP_PREFETCH = "maven.dependencies.prefetch";
+
+    private static final String CONTEXT_KEY = DependencyPrefetcher.class.getName() + "/prefetch";
+
+    @Requirement
+    private Logger logger;
+
+    @Requirement
+    private RepositorySystem repoSystem;
+
+    private ExecutorService executor;
+
+    /**
+     * Schedules the prefetch of the dependencies for the projects following the specified project in the reactor
+     * order, unless already scheduled.
+     *
+     * @param session The current build session, must not be {@code null}.
+     * @param currentProject The project about to be built, must not be {@code null}.
+     * @param scopesToResolve The dependency scopes required by the current project, used as estimate of the scopes
+     *            required by the upcoming projects, must not be {@code null}.
+     */
+    public void schedule( MavenSession session, MavenProject currentProject, Collection<String> scopesToResolve )
+    {
+        int lookAhead =
+            ConfigUtils.getInteger( session.getRepositorySession().getConfigProperties(), 0, CONFIG_PROP_PREFETCH );
+
+        if ( lookAhead <= 0 || session.isParallel() || scopesToResolve.isEmpty() )
+        {
+            return;
+        }
+
+        List<MavenProject> projects = session.getProjects();
+        int index = projects.indexOf( currentProject );
+        if ( index < 0 )
+        {
+            return;
+        }
+
+        DependencyFilter reactorFilter = null;
+
+        for ( int i = index + 1, n = Math.min( projects.size(), index + 1 + lookAhead ); i < n; i++ )
+        {
+            MavenProject project = projects.get( i );
+
+            if ( project.getContextValue( CONTEXT_KEY ) != null )
+            {
+                continue;
+            }
+
+            if ( reactorFilter == null )
+            {
+                reactorFilter = ReactorDependencyFilter.forProjects( projects );
+            }
+
+            CollectRequest collect = newCollectRequest( project, session.getRepositorySession() );
+
+            DependencyFilter filter =
+                AndDependencyFilter.newInstance( new ScopeDependencyFilter( scopesToResolve, null ),
+                                                 reactorFilter );
+
+            project.setContextValue( CONTEXT_KEY,
+                                     getExecutor().submit( new Prefetch( session.getRepositorySession(), collect,
+                                                                         filter, project.getId() ) ) );
+        }
+    }
+
+    /**
+     * Waits for a pending prefetch of the dependencies of the specified project to complete. Failures of the prefetch
+     * are ignored, they will show up again during the regular dependency resolution.
+     *
+     * @param project The project about to be built, must not be {@code null}.
+     */
+    public void await( MavenProject project )
+    {
+        Object prefetch = project.getContextValue( CONTEXT_KEY );
+
+        if ( prefetch instanceof Future<?> )
+        {
+            project.setContextValue( CONTEXT_KEY, Boolean.TRUE );
+
+            try
+            {
+                ( (Future<?>) prefetch ).get();
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch ( ExecutionException e )
+            {
+                logger.debug( "Failed to prefetch dependencies of " + project.getId(), e.getCause() );
+            }
+        }
+    }
+
+    private synchronized ExecutorService getExecutor()
+    {
+        if ( executor == null )
+        {
+            executor = Executors.newSingleThreadExecutor( new ThreadFactory()
+            {
+                public Thread newThread( Runnable r )
+                {
+                    Thread thread = new Thread( r, "DependencyPrefetcher" );
+                    thread.setDaemon( true );
+                    return thread;
+                }
+            } );
+        }
+        return executor;
+    }
+
+    public synchronized void dispose()
+    {
+        if ( executor != null )
+        {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static CollectRequest newCollectRequest( MavenProject project, RepositorySystemSession session )
+    {
+        ArtifactTypeRegistry stereotypes = session.getArtifactTypeRegistry();
+
+        CollectRequest collect = new CollectRequest();
+        collect.setRootArtifact( RepositoryUtils.toArtifact( project.getArtifact() ) );
+        collect.setRequestContext( "project" );
+        collect.setRepositories( project.getRemoteProjectRepositories() );
+
+        for ( Dependency dependency : project.getDependencies() )
+        {
+            if ( StringUtils.isEmpty( dependency.getGroupId() ) || StringUtils.isEmpty( dependency.getArtifactId() )
+                || StringUtils.isEmpty( dependency.getVersion() ) )
+            {
+                continue;
+            }
+            collect.addDependency( RepositoryUtils.toDependency( dependency, stereotypes ) );
+        }
+
+        DependencyManagement depMngt = project.getDependencyManagement();
+        if ( depMngt != null )
+        {
+            for ( Dependency dependency : depMngt.getDependencies() )
+            {
+                collect.addManagedDependency( RepositoryUtils.toDependency( dependency, stereotypes ) );
+            }
+        }
+
+        return collect;
+    }
+
+    private class Prefetch
+        implements Callable<Object>
+    {
+
+        private final RepositorySystemSession session;
+
+        private final CollectRequest collect;
+
+        private final DependencyFilter filter;
+
+        private final String projectId;
+
+        Prefetch( RepositorySystemSession session, CollectRequest collect, DependencyFilter filter,
+                  String projectId )
+        {
+            this.session = session;
+            this.collect = collect;
+            this.filter = filter;
+            this.projectId = projectId;
+        }
+
+        public Object call()
+            throws Exception
+        {
+            logger.debug( "Prefetching dependencies of " + projectId );
+
+            repoSystem.resolveDependencies( session, new DependencyRequest( collect, filter ) );
+
+            return null;
+        }
+
+    }
+
+}
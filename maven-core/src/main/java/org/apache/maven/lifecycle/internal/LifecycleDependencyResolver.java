@@ -46,7 +46,6 @@
 import org.codehaus.plexus.logging.Logger;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
-import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.util.filter.AndDependencyFilter;
 import org.eclipse.aether.util.filter.ScopeDependencyFilter;
 
@@ -300,33 +299,4 @@ else if ( "test".equals( scope ) )
         return result;
     }
 
-    private static class ReactorDependencyFilter
-        implements DependencyFilter
-    {
-
-        private Set<String> keys = new HashSet<String>();
-
-        public ReactorDependencyFilter( Collection<Artifact> artifacts )
-        {
-            for ( Artifact artifact : artifacts )
-            {
-                String key = ArtifactUtils.key( artifact );
-                keys.add( key );
-            }
-        }
-
-        public boolean accept( DependencyNode node, List<DependencyNode> parents )
-        {
-            Dependency dependency = node.getDependency();
-            if ( dependency != null )
-            {
-                org.eclipse.aether.artifact.Artifact a = dependency.getArtifact();
-                String key = ArtifactUtils.key( a.getGroupId(), a.getArtifactId(), a.getVersion() );
-                return !keys.contains( key );
-            }
-            return false;
-        }
-
-    }
-
 }
@@ -59,6 +59,9 @@
     @Requirement
     private ExecutionEventCatapult eventCatapult;
 
+    @Requirement
+    private DependencyPrefetcher dependencyPrefetcher;
+
     private ProjectExecutionListener projectExecutionListener;
 
     // this tricks plexus-component-metadata generate required metadata
@@ -110,10 +113,15 @@ public void buildProject( MavenSession session, MavenSession rootSession, Reacto
                 builderCommon.resolveBuildPlan( session, currentProject, taskSegment, new HashSet<Artifact>() );
             List<MojoExecution> mojoExecutions = executionPlan.getMojoExecutions();
 
+            DependencyContext dependencyContext = mojoExecutor.newDependencyContext( session, mojoExecutions );
+            dependencyPrefetcher.schedule( session, currentProject,
+                                           dependencyContext.getScopesToResolveForCurrentProject() );
+            dependencyPrefetcher.await( currentProject );
+
             projectExecutionListener.beforeProjectLifecycleExecution( new ProjectExecutionEvent( session,
                                                                                                  currentProject,
                                                                                                  mojoExecutions ) );
-            mojoExecutor.execute( session, mojoExecutions, reactorContext.getProjectIndex() );
+            mojoExecutor.execute( session, mojoExecutions, reactorContext.getProjectIndex(), dependencyContext );
 
             long buildEndTime = System.currentTimeMillis();
 
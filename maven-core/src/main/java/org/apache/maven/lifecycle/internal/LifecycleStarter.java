@@ -29,6 +29,7 @@
 import org.apache.maven.lifecycle.MissingProjectException;
 import org.apache.maven.lifecycle.NoGoalSpecifiedException;
 import org.apache.maven.lifecycle.internal.builder.Builder;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
 import org.apache.maven.lifecycle.internal.builder.BuilderNotFoundException;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
@@ -65,6 +66,9 @@
     @Requirement
     private Map<String, Builder> builders;
 
+    @Requirement
+    private BuilderCommon builderCommon;
+
     public void execute( MavenSession session )
     {
         eventCatapult.fire( ExecutionEvent.Type.SessionStarted, session, null );
@@ -117,6 +121,8 @@ public void execute( MavenSession session )
                 logger.info( "" );
                 logger.info( String.format( "Using the %s implementation with a thread count of %d", builder.getClass().getSimpleName(), degreeOfConcurrency ) );
             }
+            builderCommon.precalculateBuildPlans( session, projectBuilds );
+
             builder.build( session, reactorContext, projectBuilds, taskSegments, reactorBuildStatus );
 
         }
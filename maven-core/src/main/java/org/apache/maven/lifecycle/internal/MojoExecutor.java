@@ -38,7 +38,10 @@
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.logging.Logger;
 import org.codehaus.plexus.util.StringUtils;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.util.ConfigUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +51,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Executes an individual mojo
@@ -63,6 +68,13 @@
 public class MojoExecutor
 {
 
+    static final String CONFIG_PROP_FORK_REUSE = "maven.fork.reuse";
+
+    private static final Object FORK_RESULTS_KEY = new Object();
+
+    @Requirement
+    private Logger logger;
+
     @Requirement
     private BuildPluginManager pluginManager;
 
@@ -136,8 +148,20 @@ public void execute( MavenSession session, List<MojoExecution> mojoExecutions, P
         throws LifecycleExecutionException
 
     {
-        DependencyContext dependencyContext = newDependencyContext( session, mojoExecutions );
+        execute( session, mojoExecutions, projectIndex, newDependencyContext( session, mojoExecutions ) );
+    }
 
+    /**
+     * Executes the specified mojos for the current project of the session.
+     *
+     * @param dependencyContext The dependency context as created by {@link #newDependencyContext} for the mojos,
+     *            must not be {@code null}.
+     * @since 3.2.4
+     */
+    public void execute( MavenSession session, List<MojoExecution> mojoExecutions, ProjectIndex projectIndex,
+                         DependencyContext dependencyContext )
+        throws LifecycleExecutionException
+    {
         PhaseRecorder phaseRecorder = new PhaseRecorder( session.getCurrentProject() );
 
         for ( MojoExecution mojoExecution : mojoExecutions )
@@ -328,6 +352,8 @@ public List<MavenProject> executeForkedExecutions( MojoExecution mojoExecution,
 
             MavenProject project = session.getCurrentProject();
 
+            boolean reuse = isForkReusable( mojoExecution, session );
+
             forkedProjects = new ArrayList<MavenProject>( forkedExecutions.size() );
 
             try
@@ -342,11 +368,16 @@ public List<MavenProject> executeForkedExecutions( MojoExecution mojoExecution,
 
                     forkedProjects.add( forkedProject );
 
-                    MavenProject executedProject = forkedProject.clone();
+                    List<MojoExecution> mojoExecutions = fork.getValue();
 
-                    forkedProject.setExecutionProject( executedProject );
+                    Object forkKey = reuse ? getForkKey( projectId, mojoExecutions ) : null;
 
-                    List<MojoExecution> mojoExecutions = fork.getValue();
+                    MavenProject reusedProject =
+                        ( forkKey != null ) ? getForkResult( session, projectId, forkKey ) : null;
+
+                    MavenProject executedProject = ( reusedProject != null ) ? reusedProject : forkedProject.clone();
+
+                    forkedProject.setExecutionProject( executedProject );
 
                     if ( mojoExecutions.isEmpty() )
                     {
@@ -361,7 +392,22 @@ public List<MavenProject> executeForkedExecutions( MojoExecution mojoExecution,
 
                         eventCatapult.fire( ExecutionEvent.Type.ForkedProjectStarted, session, mojoExecution );
 
-                        execute( session, mojoExecutions, projectIndex );
+                        if ( reusedProject != null )
+                        {
+                            if ( logger.isDebugEnabled() )
+                            {
+                                logger.debug( "Reusing results of forked executions for " + forkedProject.getId() );
+                            }
+                        }
+                        else
+                        {
+                            execute( session, mojoExecutions, projectIndex );
+
+                            if ( forkKey != null )
+                            {
+                                putForkResult( session, projectId, forkKey, executedProject );
+                            }
+                        }
 
                         eventCatapult.fire( ExecutionEvent.Type.ForkedProjectSucceeded, session, mojoExecution );
                     }
@@ -391,4 +437,119 @@ public List<MavenProject> executeForkedExecutions( MojoExecution mojoExecution,
 
         return forkedProjects;
     }
+
+    /**
+     * Tells whether the specified forking mojo may be handed the results of an identical fork that already ran in this
+     * session. Reusing a fork skips re-executing the forked mojos, but the execution project then does not reflect
+     * changes made to the project after the first fork. Hence, this is an opt-in for the mojos listed (as
+     * {@code groupId:artifactId:goal}) in the property {@code maven.fork.reuse}.
+     */
+    private boolean isForkReusable( MojoExecution mojoExecution, MavenSession session )
+    {
+        if ( session.getRepositorySession() == null )
+        {
+            return false;
+        }
+
+        String mojos =
+            ConfigUtils.getString( session.getRepositorySession().getConfigProperties(), "", CONFIG_PROP_FORK_REUSE );
+
+        if ( mojos.length() <= 0 )
+        {
+            return false;
+        }
+
+        String key = mojoExecution.getGroupId() + ':' + mojoExecution.getArtifactId() + ':' + mojoExecution.getGoal();
+
+        for ( String mojo : StringUtils.split( mojos, ", " ) )
+        {
+            if ( key.equals( mojo ) )
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the key for the results of the specified forked executions. Forks are considered identical if they execute
+     * the same mojos with the same configuration for the same project, including any nested forks. The key only holds
+     * strings, the configurations are rendered since they remain mutable after the fork.
+     */
+    private static Object getForkKey( String projectId, List<MojoExecution> mojoExecutions )
+    {
+        List<String> key = new ArrayList<String>();
+        key.add( projectId );
+        addForkKey( key, mojoExecutions );
+        return key;
+    }
+
+    private static void addForkKey( List<String> key, List<MojoExecution> mojoExecutions )
+    {
+        for ( MojoExecution mojoExecution : mojoExecutions )
+        {
+            key.add( mojoExecution.getMojoDescriptor().getId() );
+            key.add( mojoExecution.getExecutionId() );
+            key.add( String.valueOf( mojoExecution.getConfiguration() ) );
+
+            for ( Map.Entry<String, List<MojoExecution>> fork : mojoExecution.getForkedExecutions().entrySet() )
+            {
+                key.add( fork.getKey() );
+                addForkKey( key, fork.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Gets a copy of the project executed by an identical fork, or {@code null} if there is none. Each reuse gets its
+     * own copy since the forking mojo may modify the execution project it is handed.
+     */
+    private static MavenProject getForkResult( MavenSession session, String projectId, Object forkKey )
+    {
+        ForkResult result = getForkResults( session ).get( projectId );
+
+        return ( result != null && result.key.equals( forkKey ) ) ? result.project.clone() : null;
+    }
+
+    private static void putForkResult( MavenSession session, String projectId, Object forkKey,
+                                       MavenProject executedProject )
+    {
+        getForkResults( session ).put( projectId, new ForkResult( forkKey, executedProject.clone() ) );
+    }
+
+    /**
+     * Gets the results of the forks in this session. Only the latest fork of each project is kept, the results hence
+     * hold at most one executed project per project of the reactor.
+     */
+    @SuppressWarnings( "unchecked" )
+    private static ConcurrentMap<String, ForkResult> getForkResults( MavenSession session )
+    {
+        SessionData data = session.getRepositorySession().getData();
+
+        Object results = data.get( FORK_RESULTS_KEY );
+        while ( !( results instanceof ConcurrentMap ) )
+        {
+            data.set( FORK_RESULTS_KEY, results, new ConcurrentHashMap<String, ForkResult>() );
+            results = data.get( FORK_RESULTS_KEY );
+        }
+
+        return (ConcurrentMap<String, ForkResult>) results;
+    }
+
+    private static final class ForkResult
+    {
+
+        final Object key;
+
+        final MavenProject project;
+
+        ForkResult( Object key, MavenProject project )
+        {
+            this.key = key;
+            this.project = project;
+        }
+
+    }
+
 }
@@ -0,0 +1,93 @@
+package org.apache.maven.lifecycle.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.graph.DependencyNode;
+
+/**
+ * Excludes the dependencies on projects of the reactor, which are resolved from the reactor rather than from the
+ * repositories.
+ *
+ * @since 3.2.4
+ */
+class ReactorDependencyFilter
+    implements DependencyFilter
+{
+
+    private final Set<String> keys = new HashSet<String>();
+
+    private final Set<String> artifactIds = new HashSet<String>();
+
+    private ReactorDependencyFilter()
+    {
+    }
+
+    public ReactorDependencyFilter( Collection<Artifact> artifacts )
+    {
+        for ( Artifact artifact : artifacts )
+        {
+            add( artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion() );
+        }
+    }
+
+    public static ReactorDependencyFilter forProjects( Collection<MavenProject> projects )
+    {
+        ReactorDependencyFilter filter = new ReactorDependencyFilter();
+        for ( MavenProject project : projects )
+        {
+            filter.add( project.getGroupId(), project.getArtifactId(), project.getVersion() );
+        }
+        return filter;
+    }
+
+    private void add( String groupId, String artifactId, String version )
+    {
+        keys.add( ArtifactUtils.key( groupId, artifactId, version ) );
+        artifactIds.add( artifactId );
+    }
+
+    public boolean accept( DependencyNode node, List<DependencyNode> parents )
+    {
+        Dependency dependency = node.getDependency();
+        if ( dependency != null )
+        {
+            org.eclipse.aether.artifact.Artifact a = dependency.getArtifact();
+            if ( !artifactIds.contains( a.getArtifactId() ) )
+            {
+                // spare building the full key for the bulk of the nodes which are not reactor projects
+                return true;
+            }
+            String key = ArtifactUtils.key( a.getGroupId(), a.getArtifactId(), a.getVersion() );
+            return !keys.contains( key );
+        }
+        return false;
+    }
+
+}
@@ -20,7 +20,9 @@
  */
 
 import org.apache.maven.InternalErrorException;
+import org.apache.maven.SessionScope;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.execution.BuildFailure;
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.MavenExecutionRequest;
@@ -30,12 +32,16 @@
 import org.apache.maven.lifecycle.LifecyclePhaseNotFoundException;
 import org.apache.maven.lifecycle.MavenExecutionPlan;
 import org.apache.maven.lifecycle.internal.ExecutionEventCatapult;
+import org.apache.maven.lifecycle.internal.GoalTask;
 import org.apache.maven.lifecycle.internal.LifecycleDebugLogger;
 import org.apache.maven.lifecycle.internal.LifecycleExecutionPlanCalculator;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.ProjectSegment;
 import org.apache.maven.lifecycle.internal.ReactorContext;
 import org.apache.maven.lifecycle.internal.TaskSegment;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.InvalidPluginDescriptorException;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoNotFoundException;
 import org.apache.maven.plugin.PluginDescriptorParsingException;
 import org.apache.maven.plugin.PluginNotFoundException;
@@ -48,8 +54,23 @@
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.util.ConfigUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Common code that is shared by the LifecycleModuleBuilder and the LifeCycleWeaveBuilder
@@ -62,6 +83,10 @@
 @Component( role = BuilderCommon.class )
 public class BuilderCommon
 {
+    static final String CONFIG_PROP_PRECALCULATE = "maven.buildPlan.precalculate";
+
+    private static final String CONTEXT_KEY = BuilderCommon.class.getName() + "/buildPlans";
+
     @Requirement
     private LifecycleDebugLogger lifecycleDebugLogger;
 
@@ -71,6 +96,9 @@
     @Requirement
     private ExecutionEventCatapult eventCatapult;
 
+    @Requirement
+    private SessionScope sessionScope;
+
     @Requirement
     private Logger logger;
 
@@ -94,8 +122,13 @@ public MavenExecutionPlan resolveBuildPlan( MavenSession session, MavenProject p
         NoPluginFoundForPrefixException, LifecycleNotFoundException, PluginVersionResolutionException,
         LifecycleExecutionException
     {
-        MavenExecutionPlan executionPlan =
-            lifeCycleExecutionPlanCalculator.calculateExecutionPlan( session, project, taskSegment.getTasks() );
+        MavenExecutionPlan executionPlan = takePrecalculatedBuildPlan( project, taskSegment );
+
+        if ( executionPlan == null )
+        {
+            executionPlan =
+                lifeCycleExecutionPlanCalculator.calculateExecutionPlan( session, project, taskSegment.getTasks() );
+        }
 
         lifecycleDebugLogger.debugProjectPlan( project, executionPlan );
 
@@ -138,6 +171,244 @@ public MavenExecutionPlan resolveBuildPlan( MavenSession session, MavenProject p
         return executionPlan;
     }
 
+    /**
+     * Calculates the build plans of the specified project segments concurrently, ahead of the build. Enabled by setting
+     * the property {@code maven.buildPlan.precalculate} to the number of threads to use. This resolves the plugin
+     * descriptors for the whole reactor in parallel instead of one project after the other. The plans are picked up by
+     * {@link #resolveBuildPlan(MavenSession, MavenProject, TaskSegment, Set)} when the projects get built. Projects
+     * that refer to a plugin from the reactor are skipped since calculating their plans would pin the plugin versions
+     * of the model before the plugin is built. A plan that fails to calculate or turns out to use a plugin from the
+     * reactor is discarded, the project then calculates its plan as usual once the upstream projects are built. Build
+     * failures hence surface just like without precalculation.
+     *
+     * @param session The current build session, must not be {@code null}.
+     * @param projectBuilds The project segments to calculate the build plans for, must not be {@code null}.
+     */
+    public void precalculateBuildPlans( MavenSession session, ProjectBuildList projectBuilds )
+    {
+        int threads =
+            ConfigUtils.getInteger( session.getRepositorySession().getConfigProperties(), 0, CONFIG_PROP_PRECALCULATE );
+
+        if ( threads <= 0 || projectBuilds.size() <= 1 )
+        {
+            return;
+        }
+
+        final Set<String> reactorKeys = getReactorPluginKeys( projectBuilds );
+
+        ExecutorService executor =
+            Executors.newFixedThreadPool( Math.min( threads, projectBuilds.size() ), new ThreadFactory()
+            {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread( Runnable r )
+                {
+                    Thread thread = new Thread( r, "BuildPlanCalculator-" + count.incrementAndGet() );
+                    thread.setDaemon( true );
+                    return thread;
+                }
+            } );
+
+        try
+        {
+            // the segments of one project are calculated one after the other since they update the same project
+            Map<MavenProject, List<ProjectSegment>> segments = new LinkedHashMap<MavenProject, List<ProjectSegment>>();
+            for ( ProjectSegment projectBuild : projectBuilds )
+            {
+                if ( refersToReactorPlugin( projectBuild, reactorKeys ) )
+                {
+                    // the calculation would resolve the missing plugin versions and pin them in the project model
+                    continue;
+                }
+
+                List<ProjectSegment> projectSegments = segments.get( projectBuild.getProject() );
+                if ( projectSegments == null )
+                {
+                    projectSegments = new ArrayList<ProjectSegment>( 2 );
+                    segments.put( projectBuild.getProject(), projectSegments );
+                }
+                projectSegments.add( projectBuild );
+            }
+
+            List<Future<Map<TaskSegment, MavenExecutionPlan>>> plans =
+                new ArrayList<Future<Map<TaskSegment, MavenExecutionPlan>>>( segments.size() );
+
+            for ( final List<ProjectSegment> projectSegments : segments.values() )
+            {
+                plans.add( executor.submit( new Callable<Map<TaskSegment, MavenExecutionPlan>>()
+                {
+                    public Map<TaskSegment, MavenExecutionPlan> call()
+                    {
+                        Map<TaskSegment, MavenExecutionPlan> projectPlans =
+                            new HashMap<TaskSegment, MavenExecutionPlan>();
+                        for ( ProjectSegment projectBuild : projectSegments )
+                        {
+                            MavenExecutionPlan plan = precalculateBuildPlan( projectBuild, reactorKeys );
+                            if ( plan != null )
+                            {
+                                projectPlans.put( projectBuild.getTaskSegment(), plan );
+                            }
+                        }
+                        return projectPlans;
+                    }
+                } ) );
+            }
+
+            int index = 0;
+            for ( MavenProject project : segments.keySet() )
+            {
+                Map<TaskSegment, MavenExecutionPlan> projectPlans = plans.get( index++ ).get();
+                if ( !projectPlans.isEmpty() )
+                {
+                    project.setContextValue( CONTEXT_KEY, projectPlans );
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch ( ExecutionException e )
+        {
+            logger.debug( "Failed to precalculate build plans", e.getCause() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private MavenExecutionPlan precalculateBuildPlan( ProjectSegment projectBuild, Set<String> reactorKeys )
+    {
+        MavenProject project = projectBuild.getProject();
+
+        Thread thread = Thread.currentThread();
+        ClassLoader oldContextClassLoader = thread.getContextClassLoader();
+        sessionScope.enter();
+        try
+        {
+            // plugin prefix and version resolution work on the current project of the session
+            projectBuild.getSession().setCurrentProject( project );
+
+            sessionScope.seed( MavenSession.class, projectBuild.getSession() );
+
+            attachToThread( project );
+
+            MavenExecutionPlan plan =
+                lifeCycleExecutionPlanCalculator.calculateExecutionPlan( projectBuild.getSession(), project,
+                                                                         projectBuild.getTaskSegment().getTasks() );
+
+            if ( usesReactorPlugin( plan.getMojoExecutions(), reactorKeys ) )
+            {
+                // the plugin has not been built yet, calculating the plan now could pick up an outdated version
+                return null;
+            }
+
+            return plan;
+        }
+        catch ( Exception e )
+        {
+            if ( logger.isDebugEnabled() )
+            {
+                logger.debug( "Failed to precalculate build plan for " + project.getId() + ": " + e.getMessage() );
+            }
+            return null;
+        }
+        finally
+        {
+            sessionScope.exit();
+            thread.setContextClassLoader( oldContextClassLoader );
+        }
+    }
+
+    private static Set<String> getReactorPluginKeys( ProjectBuildList projectBuilds )
+    {
+        Set<String> keys = new HashSet<String>();
+        for ( ProjectSegment projectBuild : projectBuilds )
+        {
+            MavenProject project = projectBuild.getProject();
+            keys.add( ArtifactUtils.versionlessKey( project.getGroupId(), project.getArtifactId() ) );
+        }
+        return keys;
+    }
+
+    private static boolean refersToReactorPlugin( ProjectSegment projectBuild, Set<String> reactorKeys )
+    {
+        MavenProject project = projectBuild.getProject();
+
+        if ( containsReactorPlugin( project.getBuildPlugins(), reactorKeys ) )
+        {
+            return true;
+        }
+
+        if ( project.getPluginManagement() != null
+            && containsReactorPlugin( project.getPluginManagement().getPlugins(), reactorKeys ) )
+        {
+            return true;
+        }
+
+        for ( Object task : projectBuild.getTaskSegment().getTasks() )
+        {
+            if ( task instanceof GoalTask )
+            {
+                // groupId:artifactId[:version]:goal, goals invoked by prefix are checked once the plan is calculated
+                String[] tokens = task.toString().split( ":" );
+                if ( tokens.length >= 3
+                    && reactorKeys.contains( ArtifactUtils.versionlessKey( tokens[0], tokens[1] ) ) )
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean containsReactorPlugin( Collection<Plugin> plugins, Set<String> reactorKeys )
+    {
+        for ( Plugin plugin : plugins )
+        {
+            if ( reactorKeys.contains( ArtifactUtils.versionlessKey( plugin.getGroupId(), plugin.getArtifactId() ) ) )
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean usesReactorPlugin( Collection<MojoExecution> mojoExecutions, Set<String> reactorKeys )
+    {
+        for ( MojoExecution mojoExecution : mojoExecutions )
+        {
+            // the version resolved for a goal invoked by prefix can differ from the version built by the reactor
+            if ( reactorKeys.contains( ArtifactUtils.versionlessKey( mojoExecution.getGroupId(),
+                                                                     mojoExecution.getArtifactId() ) ) )
+            {
+                return true;
+            }
+
+            for ( List<MojoExecution> forkedExecutions : mojoExecution.getForkedExecutions().values() )
+            {
+                if ( usesReactorPlugin( forkedExecutions, reactorKeys ) )
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static MavenExecutionPlan takePrecalculatedBuildPlan( MavenProject project, TaskSegment taskSegment )
+    {
+        @SuppressWarnings( "unchecked" )
+        Map<TaskSegment, MavenExecutionPlan> projectPlans =
+            (Map<TaskSegment, MavenExecutionPlan>) project.getContextValue( CONTEXT_KEY );
+
+        return ( projectPlans != null ) ? projectPlans.remove( taskSegment ) : null;
+    }
+
     public void handleBuildError( final ReactorContext buildContext, final MavenSession rootSession,
                                   final MavenSession currentSession, final MavenProject mavenProject, Exception e,
                                   final long buildStartTime )
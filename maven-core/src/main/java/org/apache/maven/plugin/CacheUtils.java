@@ -19,9 +19,15 @@
  * under the License.
  */
 
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Exclusion;
 import org.apache.maven.model.Plugin;
@@ -202,6 +208,48 @@ private static boolean exclusionsEquals( List<Exclusion> a, List<Exclusion> b )
         return true;
     }
 
+    /**
+     * Gets the timestamps of the files of the snapshot artifacts among the specified artifacts. Release artifacts are
+     * not expected to change so are not tracked.
+     */
+    public static Map<File, Long> getSnapshotTimestamps( Collection<? extends Artifact> artifacts )
+    {
+        Map<File, Long> timestamps = null;
+        if ( artifacts != null )
+        {
+            for ( Artifact artifact : artifacts )
+            {
+                if ( artifact != null && artifact.isSnapshot() && artifact.getFile() != null )
+                {
+                    if ( timestamps == null )
+                    {
+                        timestamps = new HashMap<File, Long>();
+                    }
+                    timestamps.put( artifact.getFile(), Long.valueOf( artifact.getFile().lastModified() ) );
+                }
+            }
+        }
+        return ( timestamps != null ) ? timestamps : Collections.<File, Long> emptyMap();
+    }
+
+    /**
+     * Checks whether any of the files recorded by {@link #getSnapshotTimestamps(Collection)} has changed since.
+     */
+    public static boolean isStale( Map<File, Long> timestamps )
+    {
+        if ( timestamps != null )
+        {
+            for ( Map.Entry<File, Long> entry : timestamps.entrySet() )
+            {
+                if ( entry.getKey().lastModified() != entry.getValue().longValue() )
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public static WorkspaceRepository getWorkspace( RepositorySystemSession session )
     {
         WorkspaceReader reader = session.getWorkspaceReader();
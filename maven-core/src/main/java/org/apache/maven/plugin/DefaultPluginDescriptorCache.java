@@ -19,11 +19,14 @@
  * under the License.
  */
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
@@ -50,11 +53,14 @@
     implements PluginDescriptorCache
 {
 
-    private Map<Key, PluginDescriptor> descriptors = new HashMap<Key, PluginDescriptor>( 128 );
+    private Map<Key, PluginDescriptor> descriptors = new ConcurrentHashMap<Key, PluginDescriptor>( 128 );
+
+    private Map<Key, Map<File, Long>> snapshotTimestamps = new ConcurrentHashMap<Key, Map<File, Long>>( 128 );
 
     public void flush()
     {
         descriptors.clear();
+        snapshotTimestamps.clear();
     }
 
     public Key createKey( Plugin plugin, List<RemoteRepository> repositories, RepositorySystemSession session )
@@ -64,11 +70,20 @@ public Key createKey( Plugin plugin, List<RemoteRepository> repositories, Reposi
 
     public PluginDescriptor get( Key cacheKey )
     {
+        if ( CacheUtils.isStale( snapshotTimestamps.get( cacheKey ) ) )
+        {
+            descriptors.remove( cacheKey );
+            snapshotTimestamps.remove( cacheKey );
+            return null;
+        }
+
         return clone( descriptors.get( cacheKey ) );
     }
 
     public void put( Key cacheKey, PluginDescriptor pluginDescriptor )
     {
+        Artifact pluginArtifact = pluginDescriptor.getPluginArtifact();
+        snapshotTimestamps.put( cacheKey, CacheUtils.getSnapshotTimestamps( Collections.singleton( pluginArtifact ) ) );
         descriptors.put( cacheKey, clone( pluginDescriptor ) );
     }
 
@@ -19,6 +19,7 @@
  * under the License.
  */
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -39,7 +40,8 @@
 import org.eclipse.aether.repository.WorkspaceRepository;
 
 /**
- * Default PluginCache implementation. Assumes cached data does not change.
+ * Default PluginCache implementation. Assumes cached data does not change, except for the files of snapshot artifacts
+ * which are checked for modifications before a cached realm is reused.
  */
 @Component( role = PluginRealmCache.class )
 public class DefaultPluginRealmCache
@@ -148,6 +150,10 @@ private static <T> boolean eq( T s1, T s2 )
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<Key, CacheRecord>();
 
+    private final Map<Key, Map<File, Long>> snapshotTimestamps = new ConcurrentHashMap<Key, Map<File, Long>>();
+
+    private final List<ClassRealm> staleRealms = new ArrayList<ClassRealm>();
+
     public Key createKey( Plugin plugin, ClassLoader parentRealm, Map<String, ClassLoader> foreignImports,
                           DependencyFilter dependencyFilter, List<RemoteRepository> repositories,
                           RepositorySystemSession session )
@@ -155,12 +161,24 @@ public Key createKey( Plugin plugin, ClassLoader parentRealm, Map<String, ClassL
         return new CacheKey( plugin, parentRealm, foreignImports, dependencyFilter, repositories, session );
     }
 
-    public CacheRecord get( Key key )
+    public synchronized CacheRecord get( Key key )
     {
-        return cache.get( key );
+        CacheRecord record = cache.get( key );
+
+        if ( record != null && CacheUtils.isStale( snapshotTimestamps.get( key ) ) )
+        {
+            // the realm is about to be replaced by one for the changed files, but mojos of other projects may still be
+            // running from it, so it is only disposed along with the cache
+            cache.remove( key );
+            snapshotTimestamps.remove( key );
+            staleRealms.add( record.realm );
+            record = null;
+        }
+
+        return record;
     }
 
-    public CacheRecord put( Key key, ClassRealm pluginRealm, List<Artifact> pluginArtifacts )
+    public synchronized CacheRecord put( Key key, ClassRealm pluginRealm, List<Artifact> pluginArtifacts )
     {
         if ( pluginRealm == null || pluginArtifacts == null )
         {
@@ -174,26 +192,37 @@ public CacheRecord put( Key key, ClassRealm pluginRealm, List<Artifact> pluginAr
 
         CacheRecord record = new CacheRecord( pluginRealm, pluginArtifacts );
 
+        snapshotTimestamps.put( key, CacheUtils.getSnapshotTimestamps( pluginArtifacts ) );
         cache.put( key, record );
 
         return record;
     }
 
-    public void flush()
+    public synchronized void flush()
     {
         for ( CacheRecord record : cache.values() )
         {
-            ClassRealm realm = record.realm;
-            try
-            {
-                realm.getWorld().disposeRealm( realm.getId() );
-            }
-            catch ( NoSuchRealmException e )
-            {
-                // ignore
-            }
+            disposeRealm( record.realm );
+        }
+        for ( ClassRealm realm : staleRealms )
+        {
+            disposeRealm( realm );
         }
         cache.clear();
+        snapshotTimestamps.clear();
+        staleRealms.clear();
+    }
+
+    private static void disposeRealm( ClassRealm realm )
+    {
+        try
+        {
+            realm.getWorld().disposeRealm( realm.getId() );
+        }
+        catch ( NoSuchRealmException e )
+        {
+            // ignore
+        }
     }
 
     protected static int pluginHashCode( Plugin plugin )
@@ -21,6 +21,8 @@
 
 import java.io.File;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
@@ -65,6 +67,10 @@
 public class PluginParameterExpressionEvaluator
     implements TypeAwareExpressionEvaluator
 {
+    private static final int MAX_CACHED_EXPRESSIONS = 16 * 1024;
+
+    private static final ConcurrentMap<String, Segment> EXPRESSIONS = new ConcurrentHashMap<String, Segment>( 256 );
+
     private MavenSession session;
 
     private MojoExecution mojoExecution;
@@ -130,233 +136,149 @@ public Object evaluate( String expr )
     public Object evaluate( String expr, Class<?> type )
         throws ExpressionEvaluationException
     {
-        Object value = null;
-
         if ( expr == null )
         {
             return null;
         }
 
-        String expression = stripTokens( expr );
-        if ( expression.equals( expr ) )
-        {
-            int index = expr.indexOf( "${" );
-            if ( index >= 0 )
-            {
-                int lastIndex = expr.indexOf( "}", index );
-                if ( lastIndex >= 0 )
-                {
-                    String retVal = expr.substring( 0, index );
+        return compile( expr ).evaluate( this, type );
+    }
 
-                    if ( ( index > 0 ) && ( expr.charAt( index - 1 ) == '$' ) )
-                    {
-                        retVal += expr.substring( index + 1, lastIndex + 1 );
-                    }
-                    else
-                    {
-                        Object subResult = evaluate( expr.substring( index, lastIndex + 1 ) );
-
-                        if ( subResult != null )
-                        {
-                            retVal += subResult;
-                        }
-                        else
-                        {
-                            retVal += "$" + expr.substring( index + 1, lastIndex + 1 );
-                        }
-                    }
+    /**
+     * Gets the compiled form of the specified expression. Expressions only depend on the configuration of the plugins
+     * so the compiled forms are shared by all evaluators, the values are still looked up on each evaluation.
+     */
+    private static Segment compile( String expr )
+    {
+        Segment segment = EXPRESSIONS.get( expr );
 
-                    retVal += evaluate( expr.substring( lastIndex + 1 ) );
-                    return retVal;
-                }
-            }
+        if ( segment == null )
+        {
+            segment = parse( expr );
 
-            // Was not an expression
-            if ( expression.contains( "$$" ) )
-            {
-                return expression.replaceAll( "\\$\\$", "\\$" );
-            }
-            else
+            if ( EXPRESSIONS.size() < MAX_CACHED_EXPRESSIONS )
             {
-                return expression;
+                EXPRESSIONS.put( expr, segment );
             }
         }
 
-        MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
+        return segment;
+    }
 
-        if ( "localRepository".equals( expression ) )
-        {
-            value = session.getLocalRepository();
-        }
-        else if ( "session".equals( expression ) )
+    private static Segment parse( String expr )
+    {
+        String expression = stripTokens( expr );
+        if ( !expression.equals( expr ) )
         {
-            value = session;
+            return new Name( expression );
         }
-        else if ( expression.startsWith( "session" ) )
-        {
-            try
-            {
-                int pathSeparator = expression.indexOf( "/" );
 
-                if ( pathSeparator > 0 )
-                {
-                    String pathExpression = expression.substring( 1, pathSeparator );
-                    value = ReflectionValueExtractor.evaluate( pathExpression, session );
-                    value = value + expression.substring( pathSeparator );
-                }
-                else
-                {
-                    value = ReflectionValueExtractor.evaluate( expression.substring( 1 ), session );
-                }
-            }
-            catch ( Exception e )
-            {
-                // TODO: don't catch exception
-                throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: " + expression,
-                                                         e );
-            }
-        }
-        else if ( "reactorProjects".equals( expression ) )
-        {
-            value = session.getProjects();
-        }
-        else if ( "mojoExecution".equals( expression ) )
-        {
-            value = mojoExecution;
-        }
-        else if ( "project".equals( expression ) )
-        {
-            value = project;
-        }
-        else if ( "executedProject".equals( expression ) )
+        int index = expr.indexOf( "${" );
+        if ( index >= 0 )
         {
-            value = project.getExecutionProject();
-        }
-        else if ( expression.startsWith( "project" ) || expression.startsWith( "pom" ) )
-        {
-            try
+            int lastIndex = expr.indexOf( "}", index );
+            if ( lastIndex >= 0 )
             {
-                int pathSeparator = expression.indexOf( "/" );
+                String prefix = expr.substring( 0, index );
+                Segment tail = compile( expr.substring( lastIndex + 1 ) );
 
-                if ( pathSeparator > 0 )
-                {
-                    String pathExpression = expression.substring( 0, pathSeparator );
-                    value = ReflectionValueExtractor.evaluate( pathExpression, project );
-                    value = value + expression.substring( pathSeparator );
-                }
-                else
+                if ( ( index > 0 ) && ( expr.charAt( index - 1 ) == '$' ) )
                 {
-                    value = ReflectionValueExtractor.evaluate( expression.substring( 1 ), project );
+                    return new Composite( prefix + expr.substring( index + 1, lastIndex + 1 ), null, null, tail );
                 }
-            }
-            catch ( Exception e )
-            {
-                // TODO: don't catch exception
-                throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: " + expression,
-                                                         e );
+
+                Name sub = new Name( stripTokens( expr.substring( index, lastIndex + 1 ) ) );
+                return new Composite( prefix, sub, "$" + expr.substring( index + 1, lastIndex + 1 ), tail );
             }
         }
-        else if ( expression.equals( "repositorySystemSession" ) )
+
+        // Was not an expression
+        if ( expression.contains( "$$" ) )
         {
-            value = session.getRepositorySession();
+            return new Literal( expression.replaceAll( "\\$\\$", "\\$" ) );
         }
-        else if ( expression.equals( "mojo" ) )
+        else
         {
-            value = mojoExecution;
+            return new Literal( expression );
         }
-        else if ( expression.startsWith( "mojo" ) )
-        {
-            try
-            {
-                int pathSeparator = expression.indexOf( "/" );
+    }
 
-                if ( pathSeparator > 0 )
-                {
-                    String pathExpression = expression.substring( 1, pathSeparator );
-                    value = ReflectionValueExtractor.evaluate( pathExpression, mojoExecution );
-                    value = value + expression.substring( pathSeparator );
-                }
-                else
-                {
-                    value = ReflectionValueExtractor.evaluate( expression.substring( 1 ), mojoExecution );
-                }
-            }
-            catch ( Exception e )
-            {
-                // TODO: don't catch exception
-                throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: " + expression,
-                                                         e );
-            }
-        }
-        else if ( expression.equals( "plugin" ) )
-        {
-            value = mojoDescriptor.getPluginDescriptor();
-        }
-        else if ( expression.startsWith( "plugin" ) )
-        {
-            try
-            {
-                int pathSeparator = expression.indexOf( "/" );
+    private Object evaluate( Name name, Class<?> type )
+        throws ExpressionEvaluationException
+    {
+        Object value = null;
 
-                PluginDescriptor pluginDescriptor = mojoDescriptor.getPluginDescriptor();
+        String expression = name.expression;
 
-                if ( pathSeparator > 0 )
-                {
-                    String pathExpression = expression.substring( 1, pathSeparator );
-                    value = ReflectionValueExtractor.evaluate( pathExpression, pluginDescriptor );
-                    value = value + expression.substring( pathSeparator );
-                }
-                else
-                {
-                    value = ReflectionValueExtractor.evaluate( expression.substring( 1 ), pluginDescriptor );
-                }
-            }
-            catch ( Exception e )
-            {
-                throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: " + expression,
-                                                         e );
-            }
-        }
-        else if ( "settings".equals( expression ) )
-        {
-            value = session.getSettings();
-        }
-        else if ( expression.startsWith( "settings" ) )
-        {
-            try
-            {
-                int pathSeparator = expression.indexOf( "/" );
+        MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
 
-                if ( pathSeparator > 0 )
-                {
-                    String pathExpression = expression.substring( 1, pathSeparator );
-                    value = ReflectionValueExtractor.evaluate( pathExpression, session.getSettings() );
-                    value = value + expression.substring( pathSeparator );
-                }
-                else
-                {
-                    value = ReflectionValueExtractor.evaluate( expression.substring( 1 ), session.getSettings() );
-                }
-            }
-            catch ( Exception e )
+        try
+        {
+            switch ( name.kind )
             {
-                // TODO: don't catch exception
-                throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: " + expression,
-                                                         e );
+                case LOCAL_REPOSITORY:
+                    value = session.getLocalRepository();
+                    break;
+                case SESSION:
+                    value = session;
+                    break;
+                case SESSION_PATH:
+                    value = extract( name, session );
+                    break;
+                case REACTOR_PROJECTS:
+                    value = session.getProjects();
+                    break;
+                case MOJO_EXECUTION:
+                    value = mojoExecution;
+                    break;
+                case PROJECT:
+                    value = project;
+                    break;
+                case EXECUTED_PROJECT:
+                    value = project.getExecutionProject();
+                    break;
+                case PROJECT_PATH:
+                    value = extract( name, project );
+                    break;
+                case REPOSITORY_SYSTEM_SESSION:
+                    value = session.getRepositorySession();
+                    break;
+                case MOJO_PATH:
+                    value = extract( name, mojoExecution );
+                    break;
+                case PLUGIN:
+                    value = mojoDescriptor.getPluginDescriptor();
+                    break;
+                case PLUGIN_PATH:
+                    value = extract( name, mojoDescriptor.getPluginDescriptor() );
+                    break;
+                case SETTINGS:
+                    value = session.getSettings();
+                    break;
+                case SETTINGS_PATH:
+                    value = extract( name, session.getSettings() );
+                    break;
+                case BASEDIR:
+                    value = basedir;
+                    break;
+                case BASEDIR_PATH:
+                    if ( name.suffix != null )
+                    {
+                        value = basedir + name.suffix;
+                    }
+                    break;
+                default:
+                    break;
             }
         }
-        else if ( "basedir".equals( expression ) )
-        {
-            value = basedir;
-        }
-        else if ( expression.startsWith( "basedir" ) )
+        catch ( RuntimeException e )
         {
-            int pathSeparator = expression.indexOf( "/" );
-
-            if ( pathSeparator > 0 )
+            if ( !name.kind.isPath() )
             {
-                value = basedir + expression.substring( pathSeparator );
+                throw e;
             }
+            // TODO: don't catch exception
+            throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: " + expression, e );
         }
 
         /*
@@ -417,6 +339,27 @@ else if ( expression.startsWith( "basedir" ) )
         return value;
     }
 
+    private static Object extract( Name name, Object root )
+        throws ExpressionEvaluationException
+    {
+        Object value;
+        try
+        {
+            value = ReflectionValueExtractor.evaluate( name.path, root );
+        }
+        catch ( Exception e )
+        {
+            // TODO: don't catch exception
+            throw new ExpressionEvaluationException( "Error evaluating plugin parameter expression: "
+                + name.expression, e );
+        }
+        if ( name.suffix != null )
+        {
+            value = value + name.suffix;
+        }
+        return value;
+    }
+
     private static boolean isTypeCompatible( Class<?> type, Object value )
     {
         if ( type.isInstance( value ) )
@@ -428,7 +371,7 @@ private static boolean isTypeCompatible( Class<?> type, Object value )
                         && value.getClass().getName().startsWith( "java.lang." ) );
     }
 
-    private String stripTokens( String expr )
+    private static String stripTokens( String expr )
     {
         if ( expr.startsWith( "${" ) && ( expr.indexOf( "}" ) == expr.length() - 1 ) )
         {
@@ -461,4 +404,235 @@ else if ( file.getPath().startsWith( File.separator ) )
         return file;
     }
 
+    /**
+     * A parsed part of a plugin parameter expression.
+     */
+    private abstract static class Segment
+    {
+
+        abstract Object evaluate( PluginParameterExpressionEvaluator evaluator, Class<?> type )
+            throws ExpressionEvaluationException;
+
+    }
+
+    /**
+     * Plain text without any expressions.
+     */
+    private static final class Literal
+        extends Segment
+    {
+
+        private final String text;
+
+        Literal( String text )
+        {
+            this.text = text;
+        }
+
+        @Override
+        Object evaluate( PluginParameterExpressionEvaluator evaluator, Class<?> type )
+        {
+            return text;
+        }
+
+    }
+
+    /**
+     * Text containing an expression followed by some more text, e.g. <code>prefix-${name}-suffix</code>. An
+     * unresolvable expression is kept as is.
+     */
+    private static final class Composite
+        extends Segment
+    {
+
+        private final String prefix;
+
+        private final Name name;
+
+        private final String unresolved;
+
+        private final Segment tail;
+
+        Composite( String prefix, Name name, String unresolved, Segment tail )
+        {
+            this.prefix = prefix;
+            this.name = name;
+            this.unresolved = unresolved;
+            this.tail = tail;
+        }
+
+        @Override
+        Object evaluate( PluginParameterExpressionEvaluator evaluator, Class<?> type )
+            throws ExpressionEvaluationException
+        {
+            StringBuilder buffer = new StringBuilder( 64 );
+            append( evaluator, buffer );
+            return buffer.toString();
+        }
+
+        private void append( PluginParameterExpressionEvaluator evaluator, StringBuilder buffer )
+            throws ExpressionEvaluationException
+        {
+            buffer.append( prefix );
+
+            if ( name != null )
+            {
+                Object value = evaluator.evaluate( name, null );
+                buffer.append( ( value != null ) ? value : unresolved );
+            }
+
+            if ( tail instanceof Composite )
+            {
+                ( (Composite) tail ).append( evaluator, buffer );
+            }
+            else
+            {
+                buffer.append( tail.evaluate( evaluator, null ) );
+            }
+        }
+
+    }
+
+    /**
+     * A single expression like <code>${project.build.directory}</code>, with its kind and reflection path determined
+     * up front.
+     */
+    private static final class Name
+        extends Segment
+    {
+
+        final String expression;
+
+        final Kind kind;
+
+        final String path;
+
+        final String suffix;
+
+        Name( String expression )
+        {
+            this.expression = expression;
+            this.kind = Kind.of( expression );
+
+            if ( kind.isPath() )
+            {
+                int pathSeparator = expression.indexOf( "/" );
+
+                // the leading token of the path is the root object which the extractor skips
+                int begin = ( kind == Kind.PROJECT_PATH ) ? 0 : 1;
+
+                if ( pathSeparator > 0 )
+                {
+                    this.path = expression.substring( begin, pathSeparator );
+                    this.suffix = expression.substring( pathSeparator );
+                }
+                else
+                {
+                    this.path = expression.substring( 1 );
+                    this.suffix = null;
+                }
+            }
+            else
+            {
+                this.path = null;
+                this.suffix = null;
+            }
+        }
+
+        @Override
+        Object evaluate( PluginParameterExpressionEvaluator evaluator, Class<?> type )
+            throws ExpressionEvaluationException
+        {
+            return evaluator.evaluate( this, type );
+        }
+
+    }
+
+    private enum Kind
+    {
+        LOCAL_REPOSITORY, SESSION, SESSION_PATH, REACTOR_PROJECTS, MOJO_EXECUTION, PROJECT, EXECUTED_PROJECT,
+        PROJECT_PATH, REPOSITORY_SYSTEM_SESSION, MOJO_PATH, PLUGIN, PLUGIN_PATH, SETTINGS, SETTINGS_PATH, BASEDIR,
+        BASEDIR_PATH, PROPERTY;
+
+        boolean isPath()
+        {
+            return this == SESSION_PATH || this == PROJECT_PATH || this == MOJO_PATH || this == PLUGIN_PATH
+                || this == SETTINGS_PATH || this == BASEDIR_PATH;
+        }
+
+        static Kind of( String expression )
+        {
+            if ( "localRepository".equals( expression ) )
+            {
+                return LOCAL_REPOSITORY;
+            }
+            else if ( "session".equals( expression ) )
+            {
+                return SESSION;
+            }
+            else if ( expression.startsWith( "session" ) )
+            {
+                return SESSION_PATH;
+            }
+            else if ( "reactorProjects".equals( expression ) )
+            {
+                return REACTOR_PROJECTS;
+            }
+            else if ( "mojoExecution".equals( expression ) )
+            {
+                return MOJO_EXECUTION;
+            }
+            else if ( "project".equals( expression ) )
+            {
+                return PROJECT;
+            }
+            else if ( "executedProject".equals( expression ) )
+            {
+                return EXECUTED_PROJECT;
+            }
+            else if ( expression.startsWith( "project" ) || expression.startsWith( "pom" ) )
+            {
+                return PROJECT_PATH;
+            }
+            else if ( expression.equals( "repositorySystemSession" ) )
+            {
+                return REPOSITORY_SYSTEM_SESSION;
+            }
+            else if ( expression.equals( "mojo" ) )
+            {
+                return MOJO_EXECUTION;
+            }
+            else if ( expression.startsWith( "mojo" ) )
+            {
+                return MOJO_PATH;
+            }
+            else if ( expression.equals( "plugin" ) )
+            {
+                return PLUGIN;
+            }
+            else if ( expression.startsWith( "plugin" ) )
+            {
+                return PLUGIN_PATH;
+            }
+            else if ( "settings".equals( expression ) )
+            {
+                return SETTINGS;
+            }
+            else if ( expression.startsWith( "settings" ) )
+            {
+                return SETTINGS_PATH;
+            }
+            else if ( "basedir".equals( expression ) )
+            {
+                return BASEDIR;
+            }
+            else if ( expression.startsWith( "basedir" ) )
+            {
+                return BASEDIR_PATH;
+            }
+            return PROPERTY;
+        }
+
+    }
+
 }
@@ -24,6 +24,8 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.maven.artifact.repository.metadata.Metadata;
 import org.apache.maven.artifact.repository.metadata.io.MetadataReader;
@@ -45,10 +47,14 @@
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.RequestTrace;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.metadata.DefaultMetadata;
 import org.eclipse.aether.repository.ArtifactRepository;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.repository.WorkspaceReader;
 import org.eclipse.aether.resolution.MetadataRequest;
 import org.eclipse.aether.resolution.MetadataResult;
 
@@ -65,6 +71,8 @@
 
     private static final String REPOSITORY_CONTEXT = "plugin";
 
+    private static final Object CACHE_KEY = new Object();
+
     @Requirement
     private Logger logger;
 
@@ -82,7 +90,22 @@ public PluginPrefixResult resolve( PluginPrefixRequest request )
     {
         logger.debug( "Resolving plugin prefix " + request.getPrefix() + " from " + request.getPluginGroups() );
 
-        PluginPrefixResult result = resolveFromProject( request );
+        ConcurrentMap<Key, PluginPrefixResult> cache = getCache( request.getRepositorySession() );
+        Key key = new Key( request );
+
+        PluginPrefixResult result = cache.get( key );
+
+        if ( result != null )
+        {
+            if ( logger.isDebugEnabled() )
+            {
+                logger.debug( "Reusing cached resolved plugin prefix " + request.getPrefix() + " to "
+                    + result.getGroupId() + ":" + result.getArtifactId() );
+            }
+            return result;
+        }
+
+        result = resolveFromProject( request );
 
         if ( result == null )
         {
@@ -107,9 +130,77 @@ else if ( logger.isDebugEnabled() )
                 + result.getArtifactId() + " from POM " + request.getPom() );
         }
 
+        if ( isCacheable( request ) )
+        {
+            cache.putIfAbsent( key, result );
+        }
+
         return result;
     }
 
+    /**
+     * Gets the prefixes resolved so far. Goals invoked by prefix from the command line are resolved for every project
+     * of a reactor, which would otherwise load the descriptors of all build plugins and read the plugin group metadata
+     * again each time. The cache lives in the repository session, i.e. it spans all projects of a build but no more
+     * than that. Only prefixes that cannot resolve differently later in the build are cached, see {@link #isCacheable}.
+     */
+    @SuppressWarnings( "unchecked" )
+    private ConcurrentMap<Key, PluginPrefixResult> getCache( RepositorySystemSession session )
+    {
+        SessionData data = session.getData();
+
+        Object cache = data.get( CACHE_KEY );
+        while ( !( cache instanceof ConcurrentMap ) )
+        {
+            data.set( CACHE_KEY, cache, new ConcurrentHashMap<Key, PluginPrefixResult>( 64 ) );
+            cache = data.get( CACHE_KEY );
+        }
+
+        return (ConcurrentMap<Key, PluginPrefixResult>) cache;
+    }
+
+    /**
+     * Determines whether the prefix resolved for the specified request can be reused for the rest of the build. This
+     * excludes POMs with build or managed plugins from the workspace. The descriptor of such a plugin cannot be loaded
+     * before the reactor has built it, and the prefix then resolves from the repositories instead.
+     */
+    private boolean isCacheable( PluginPrefixRequest request )
+    {
+        WorkspaceReader workspace = request.getRepositorySession().getWorkspaceReader();
+
+        if ( workspace != null && request.getPom() != null && request.getPom().getBuild() != null )
+        {
+            Build build = request.getPom().getBuild();
+
+            if ( containsWorkspacePlugin( workspace, build.getPlugins() ) )
+            {
+                return false;
+            }
+
+            if ( build.getPluginManagement() != null
+                && containsWorkspacePlugin( workspace, build.getPluginManagement().getPlugins() ) )
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean containsWorkspacePlugin( WorkspaceReader workspace, List<Plugin> plugins )
+    {
+        for ( Plugin plugin : plugins )
+        {
+            Artifact pom = new DefaultArtifact( plugin.getGroupId(), plugin.getArtifactId(), "pom", "" );
+            if ( !workspace.findVersions( pom ).isEmpty() )
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private PluginPrefixResult resolveFromProject( PluginPrefixRequest request )
     {
         PluginPrefixResult result = null;
@@ -291,4 +382,86 @@ private void invalidMetadata( RepositorySystemSession session, RequestTrace trac
         }
     }
 
+    /**
+     * The key of a resolved prefix. Besides the prefix, the plugin groups and the repositories, the result depends on
+     * the build plugins of the POM, so projects using the same set of plugins share their results.
+     */
+    static class Key
+    {
+
+        private final String prefix;
+
+        private final List<String> pluginGroups;
+
+        private final List<RemoteRepository> repositories;
+
+        private final List<String> plugins;
+
+        private final int hash;
+
+        Key( PluginPrefixRequest request )
+        {
+            prefix = request.getPrefix();
+            pluginGroups = new ArrayList<String>( request.getPluginGroups() );
+            repositories = new ArrayList<RemoteRepository>( request.getRepositories() );
+            plugins = new ArrayList<String>();
+
+            if ( request.getPom() != null && request.getPom().getBuild() != null )
+            {
+                Build build = request.getPom().getBuild();
+
+                addPlugins( build.getPlugins() );
+
+                if ( build.getPluginManagement() != null )
+                {
+                    // separates the managed plugins which are only considered if no build plugin matches
+                    plugins.add( null );
+
+                    addPlugins( build.getPluginManagement().getPlugins() );
+                }
+            }
+
+            int h = 17;
+            h = h * 31 + prefix.hashCode();
+            h = h * 31 + pluginGroups.hashCode();
+            h = h * 31 + repositories.hashCode();
+            h = h * 31 + plugins.hashCode();
+            hash = h;
+        }
+
+        private void addPlugins( List<Plugin> plugins )
+        {
+            for ( Plugin plugin : plugins )
+            {
+                this.plugins.add( plugin.getId() );
+            }
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals( Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+
+            if ( !( obj instanceof Key ) )
+            {
+                return false;
+            }
+
+            Key that = (Key) obj;
+
+            return prefix.equals( that.prefix ) && pluginGroups.equals( that.pluginGroups )
+                && repositories.equals( that.repositories ) && plugins.equals( that.plugins );
+        }
+
+    }
+
 }
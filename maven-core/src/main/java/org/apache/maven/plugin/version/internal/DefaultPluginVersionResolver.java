@@ -26,6 +26,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.maven.artifact.repository.metadata.Metadata;
 import org.apache.maven.artifact.repository.metadata.Versioning;
@@ -49,9 +51,13 @@
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.RequestTrace;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.metadata.DefaultMetadata;
 import org.eclipse.aether.repository.ArtifactRepository;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
 import org.eclipse.aether.resolution.MetadataRequest;
 import org.eclipse.aether.resolution.MetadataResult;
 import org.eclipse.aether.util.version.GenericVersionScheme;
@@ -72,6 +78,8 @@
 
     private static final String REPOSITORY_CONTEXT = "plugin";
 
+    private static final Object CACHE_KEY = new Object();
+
     @Requirement
     private Logger logger;
 
@@ -93,12 +101,32 @@ public PluginVersionResult resolve( PluginVersionRequest request )
 
         if ( result == null )
         {
-            result = resolveFromRepository( request );
+            ConcurrentMap<Key, PluginVersionResult> cache = getCache( request.getRepositorySession() );
+            Key key = new Key( request );
+
+            result = cache.get( key );
+
+            if ( result == null )
+            {
+                result = resolveFromRepository( request );
+
+                if ( logger.isDebugEnabled() )
+                {
+                    logger.debug( "Resolved plugin version for " + request.getGroupId() + ":"
+                        + request.getArtifactId() + " to " + result.getVersion() + " from repository "
+                        + result.getRepository() );
+                }
 
-            if ( logger.isDebugEnabled() )
+                if ( isCacheable( request, result ) )
+                {
+                    cache.putIfAbsent( key, result );
+                }
+            }
+            else if ( logger.isDebugEnabled() )
             {
-                logger.debug( "Resolved plugin version for " + request.getGroupId() + ":" + request.getArtifactId()
-                    + " to " + result.getVersion() + " from repository " + result.getRepository() );
+                logger.debug( "Reusing cached resolved plugin version for " + request.getGroupId() + ":"
+                    + request.getArtifactId() + " to " + result.getVersion() + " from repository "
+                    + result.getRepository() );
             }
         }
         else if ( logger.isDebugEnabled() )
@@ -110,6 +138,52 @@ else if ( logger.isDebugEnabled() )
         return result;
     }
 
+    /**
+     * Gets the versions resolved from the repositories so far. Without an explicit version in the POM, each project of
+     * a reactor would otherwise resolve the metadata and check the prerequisites of the same plugin candidates again.
+     * The cache lives in the repository session, i.e. it spans all projects of a build but no more than that.
+     * Only versions that cannot change during the build are cached, see {@link #isCacheable}.
+     */
+    @SuppressWarnings( "unchecked" )
+    private ConcurrentMap<Key, PluginVersionResult> getCache( RepositorySystemSession session )
+    {
+        SessionData data = session.getData();
+
+        Object cache = data.get( CACHE_KEY );
+        while ( !( cache instanceof ConcurrentMap ) )
+        {
+            data.set( CACHE_KEY, cache, new ConcurrentHashMap<Key, PluginVersionResult>( 64 ) );
+            cache = data.get( CACHE_KEY );
+        }
+
+        return (ConcurrentMap<Key, PluginVersionResult>) cache;
+    }
+
+    /**
+     * Determines whether the specified version resolved from the repositories can be reused for the rest of the build.
+     * This excludes snapshots and versions from the local repository. It also excludes plugins from the workspace,
+     * since a module of the reactor might yet install a version of the plugin that later projects need to see.
+     */
+    private boolean isCacheable( PluginVersionRequest request, PluginVersionResult result )
+    {
+        if ( result.getVersion().endsWith( "-SNAPSHOT" ) || !( result.getRepository() instanceof RemoteRepository ) )
+        {
+            return false;
+        }
+
+        WorkspaceReader workspace = request.getRepositorySession().getWorkspaceReader();
+        if ( workspace != null )
+        {
+            Artifact pom = new DefaultArtifact( request.getGroupId(), request.getArtifactId(), "pom", "" );
+            if ( !workspace.findVersions( pom ).isEmpty() )
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private PluginVersionResult resolveFromRepository( PluginVersionRequest request )
         throws PluginVersionResolutionException
     {
@@ -386,6 +460,57 @@ private PluginVersionResult resolveFromProject( PluginVersionRequest request, Li
         return null;
     }
 
+    static class Key
+    {
+
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final List<RemoteRepository> repositories;
+
+        private final int hash;
+
+        Key( PluginVersionRequest request )
+        {
+            groupId = request.getGroupId();
+            artifactId = request.getArtifactId();
+            repositories = new ArrayList<RemoteRepository>( request.getRepositories() );
+
+            int h = 17;
+            h = h * 31 + groupId.hashCode();
+            h = h * 31 + artifactId.hashCode();
+            h = h * 31 + repositories.hashCode();
+            hash = h;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals( Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+
+            if ( !( obj instanceof Key ) )
+            {
+                return false;
+            }
+
+            Key that = (Key) obj;
+
+            return groupId.equals( that.groupId ) && artifactId.equals( that.artifactId )
+                && repositories.equals( that.repositories );
+        }
+
+    }
+
     static class Versions
     {
 
@@ -0,0 +1,127 @@
+package org.apache.maven.project;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list that shares its elements with the copies made by {@link #copy()} until either of them is modified. Used for
+ * the lists of a project that plugins can modify in a forked lifecycle, so cloning a project doesn't need to duplicate
+ * the lists up front while each clone still observes its own snapshot. Like {@link ArrayList}, this list is not
+ * thread-safe, a shared backing list however is never modified.
+ *
+ * @since 3.2.4
+ */
+final class CopyOnWriteList<E>
+    extends AbstractList<E>
+    implements RandomAccess
+{
+
+    private List<E> elements;
+
+    private boolean shared;
+
+    public CopyOnWriteList()
+    {
+        elements = new ArrayList<E>();
+    }
+
+    public CopyOnWriteList( Collection<? extends E> elements )
+    {
+        this.elements = new ArrayList<E>( elements );
+    }
+
+    private CopyOnWriteList( List<E> elements, boolean shared )
+    {
+        this.elements = elements;
+        this.shared = shared;
+    }
+
+    /**
+     * Creates a copy of this list. The copy initially shares its elements with this list, the first modification of
+     * either list makes that list switch to a private copy of the elements.
+     *
+     * @return The copy of this list, never {@code null}.
+     */
+    public CopyOnWriteList<E> copy()
+    {
+        shared = true;
+        return new CopyOnWriteList<E>( elements, true );
+    }
+
+    private List<E> getWritableElements()
+    {
+        if ( shared )
+        {
+            elements = new ArrayList<E>( elements );
+            shared = false;
+        }
+        return elements;
+    }
+
+    @Override
+    public E get( int index )
+    {
+        return elements.get( index );
+    }
+
+    @Override
+    public int size()
+    {
+        return elements.size();
+    }
+
+    @Override
+    public E set( int index, E element )
+    {
+        return getWritableElements().set( index, element );
+    }
+
+    @Override
+    public void add( int index, E element )
+    {
+        getWritableElements().add( index, element );
+        modCount++;
+    }
+
+    @Override
+    public E remove( int index )
+    {
+        E element = getWritableElements().remove( index );
+        modCount++;
+        return element;
+    }
+
+    @Override
+    public void clear()
+    {
+        if ( !elements.isEmpty() )
+        {
+            elements = new ArrayList<E>();
+            shared = false;
+            modCount++;
+        }
+    }
+
+}
@@ -125,11 +125,11 @@
 
     private List<MavenProject> collectedProjects;
 
-    private List<String> compileSourceRoots = new ArrayList<String>();
+    private List<String> compileSourceRoots = new CopyOnWriteList<String>();
 
-    private List<String> testCompileSourceRoots = new ArrayList<String>();
+    private List<String> testCompileSourceRoots = new CopyOnWriteList<String>();
 
-    private List<String> scriptSourceRoots = new ArrayList<String>();
+    private List<String> scriptSourceRoots = new CopyOnWriteList<String>();
 
     private ArtifactRepository releaseArtifactRepository;
 
@@ -922,7 +922,7 @@ public List<Artifact> getAttachedArtifacts()
     {
         if ( attachedArtifacts == null )
         {
-            attachedArtifacts = new ArrayList<Artifact>();
+            attachedArtifacts = new CopyOnWriteList<Artifact>();
         }
         return attachedArtifacts;
     }
@@ -1253,24 +1253,25 @@ private void deepCopy( MavenProject project )
 
         if ( project.getAttachedArtifacts() != null )
         {
-            // clone properties modifyable by plugins in a forked lifecycle
-            setAttachedArtifacts( new ArrayList<Artifact>( project.getAttachedArtifacts() ) );
+            // clone properties modifyable by plugins in a forked lifecycle, the copies share their elements with the
+            // original lists until either side is modified
+            setAttachedArtifacts( copyList( project.getAttachedArtifacts() ) );
         }
 
         if ( project.getCompileSourceRoots() != null )
         {
             // clone source roots
-            setCompileSourceRoots( ( new ArrayList<String>( project.getCompileSourceRoots() ) ) );
+            setCompileSourceRoots( copyList( project.getCompileSourceRoots() ) );
         }
 
         if ( project.getTestCompileSourceRoots() != null )
         {
-            setTestCompileSourceRoots( ( new ArrayList<String>( project.getTestCompileSourceRoots() ) ) );
+            setTestCompileSourceRoots( copyList( project.getTestCompileSourceRoots() ) );
         }
 
         if ( project.getScriptSourceRoots() != null )
         {
-            setScriptSourceRoots( ( new ArrayList<String>( project.getScriptSourceRoots() ) ) );
+            setScriptSourceRoots( copyList( project.getScriptSourceRoots() ) );
         }
 
         if ( project.getModel() != null )
@@ -1298,6 +1299,15 @@ private void deepCopy( MavenProject project )
         lifecyclePhases.addAll( project.lifecyclePhases );
     }
 
+    private static <T> List<T> copyList( List<T> list )
+    {
+        if ( list instanceof CopyOnWriteList )
+        {
+            return ( (CopyOnWriteList<T>) list ).copy();
+        }
+        return new CopyOnWriteList<T>( list );
+    }
+
     private void addArtifactPath( Artifact artifact, List<String> classpath )
     {
         File file = artifact.getFile();
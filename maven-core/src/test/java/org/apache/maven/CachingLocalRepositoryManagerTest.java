@@ -0,0 +1,151 @@
+package org.apache.maven;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.LocalArtifactRegistration;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalMetadataRegistration;
+import org.eclipse.aether.repository.LocalMetadataRequest;
+import org.eclipse.aether.repository.LocalMetadataResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+
+public class CachingLocalRepositoryManagerTest
+    extends TestCase
+{
+
+    private CountingLocalRepositoryManager delegate;
+
+    private LocalRepositoryManager lrm;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+        delegate = new CountingLocalRepositoryManager();
+        lrm = new CachingLocalRepositoryManager( delegate );
+    }
+
+    private LocalArtifactResult find( String coords, String context )
+    {
+        Artifact artifact = new DefaultArtifact( coords );
+        return lrm.find( null, new LocalArtifactRequest( artifact, Collections.<RemoteRepository> emptyList(),
+                                                         context ) );
+    }
+
+    public void testAvailableArtifactIsLookedUpOnce()
+    {
+        LocalArtifactResult result = find( "gid:aid:1.0", "" );
+        assertTrue( result.isAvailable() );
+        result = find( "gid:aid:1.0", "" );
+        assertTrue( result.isAvailable() );
+        assertEquals( "aid-1.0.jar", result.getFile().getName() );
+        assertEquals( 1, delegate.finds );
+    }
+
+    public void testMissingArtifactIsLookedUpAgain()
+    {
+        assertFalse( find( "gid:missing:1.0", "" ).isAvailable() );
+        delegate.available = true;
+        assertTrue( find( "gid:missing:1.0", "" ).isAvailable() );
+        assertEquals( 2, delegate.finds );
+    }
+
+    public void testResultIsBoundToRequest()
+    {
+        find( "gid:aid:1.0", "" );
+        LocalArtifactResult result = find( "gid:aid:1.0", "project" );
+        assertEquals( "project", result.getRequest().getContext() );
+        assertEquals( 2, delegate.finds );
+    }
+
+    static class CountingLocalRepositoryManager
+        implements LocalRepositoryManager
+    {
+
+        boolean available;
+
+        int finds;
+
+        public LocalRepository getRepository()
+        {
+            return new LocalRepository( "target/local-repo" );
+        }
+
+        public String getPathForLocalArtifact( Artifact artifact )
+        {
+            return artifact.getArtifactId() + "-" + artifact.getVersion() + "." + artifact.getExtension();
+        }
+
+        public String getPathForRemoteArtifact( Artifact artifact, RemoteRepository repository, String context )
+        {
+            return getPathForLocalArtifact( artifact );
+        }
+
+        public String getPathForLocalMetadata( Metadata metadata )
+        {
+            return metadata.getType();
+        }
+
+        public String getPathForRemoteMetadata( Metadata metadata, RemoteRepository repository, String context )
+        {
+            return metadata.getType();
+        }
+
+        public LocalArtifactResult find( RepositorySystemSession session, LocalArtifactRequest request )
+        {
+            finds++;
+            LocalArtifactResult result = new LocalArtifactResult( request );
+            if ( available || !request.getArtifact().getArtifactId().equals( "missing" ) )
+            {
+                result.setFile( new File( getPathForLocalArtifact( request.getArtifact() ) ) );
+                result.setAvailable( true );
+            }
+            return result;
+        }
+
+        public void add( RepositorySystemSession session, LocalArtifactRegistration request )
+        {
+        }
+
+        public LocalMetadataResult find( RepositorySystemSession session, LocalMetadataRequest request )
+        {
+            return new LocalMetadataResult( request );
+        }
+
+        public void add( RepositorySystemSession session, LocalMetadataRegistration request )
+        {
+        }
+
+    }
+
+}
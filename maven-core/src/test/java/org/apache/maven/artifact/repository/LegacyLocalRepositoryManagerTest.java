@@ -0,0 +1,81 @@
+package org.apache.maven.artifact.repository;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.RepositoryUtils;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+
+public class LegacyLocalRepositoryManagerTest
+    extends TestCase
+{
+
+    private static final String[] COORDS =
+        { "gid:aid:1.0", "org.apache.maven:maven-core:jar:3.2.4", "g.h.i:a:test-jar:tests:2.0-SNAPSHOT",
+            "g:a:pom:1.0-20100101.010101-1", "g:a:zip:20100101.010101-1", "g:a:-20100101.010101-1",
+            "g:a:jar:x-20100101x010101-12", "g:a:tar.gz:bin:1.0-alpha-1" };
+
+    private ArtifactRepository newRepository( String id )
+    {
+        return new MavenArtifactRepository( id, new File( "target/local-repo" ).toURI().toString(),
+                                            new DefaultRepositoryLayout(), new ArtifactRepositoryPolicy(),
+                                            new ArtifactRepositoryPolicy() );
+    }
+
+    private LocalRepositoryManager newManager( ArtifactRepository repository )
+    {
+        return LegacyLocalRepositoryManager.overlay( repository, null, null ).getLocalRepositoryManager();
+    }
+
+    public void testPathForLocalArtifactMatchesLayout()
+    {
+        ArtifactRepository repository = newRepository( "local" );
+        LocalRepositoryManager lrm = newManager( repository );
+
+        for ( String coords : COORDS )
+        {
+            Artifact artifact = new DefaultArtifact( coords );
+            Artifact local = artifact.setVersion( artifact.getBaseVersion() );
+            assertEquals( coords, repository.pathOf( RepositoryUtils.toArtifact( local ) ),
+                          lrm.getPathForLocalArtifact( artifact ) );
+        }
+    }
+
+    public void testPathForRemoteArtifactMatchesLayout()
+    {
+        ArtifactRepository repository = newRepository( "test" );
+        LocalRepositoryManager lrm = newManager( repository );
+
+        for ( String coords : COORDS )
+        {
+            Artifact artifact = new DefaultArtifact( coords );
+            String expected = repository.pathOf( RepositoryUtils.toArtifact( artifact ) );
+            assertEquals( coords, expected, lrm.getPathForLocalArtifact( artifact ) );
+            assertEquals( coords, expected, lrm.getPathForRemoteArtifact( artifact, null, "" ) );
+        }
+    }
+
+}
@@ -17,15 +17,40 @@
 
 import junit.framework.TestCase;
 
+import org.apache.maven.SessionScope;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.lifecycle.MavenExecutionPlan;
 import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
 import org.apache.maven.lifecycle.internal.stub.LifecycleExecutionPlanCalculatorStub;
 import org.apache.maven.lifecycle.internal.stub.LoggerStub;
 import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 
+import com.google.inject.Key;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Kristian Rosenvold
@@ -51,6 +76,87 @@ public void testResolveBuildPlan()
     }
 
 
+    public void testPrecalculatedBuildPlansAreUsed()
+        throws Exception
+    {
+        MavenProject a = newProject( "a" );
+        MavenProject b = newProject( "b" );
+        TaskSegment taskSegment = newTaskSegment();
+        MavenSession session = newSession( "2" );
+
+        RecordingCalculator calculator = new RecordingCalculator();
+        BuilderCommon builderCommon = newBuilderCommon( calculator );
+
+        builderCommon.precalculateBuildPlans( session, newProjectBuildList( session, taskSegment, a, b ) );
+
+        assertEquals( 2, calculator.calculated.size() );
+        assertTrue( calculator.calculated.containsAll( Arrays.asList( "a", "b" ) ) );
+        assertEquals( 2, calculator.scopedSessions.get() );
+        assertEquals( 2, calculator.currentProjects.get() );
+
+        MavenExecutionPlan plan = builderCommon.resolveBuildPlan( session, a, taskSegment, new HashSet<Artifact>() );
+        assertSame( calculator.plans.get( "a" ), plan );
+        assertEquals( 2, calculator.calculated.size() );
+    }
+
+    public void testPrecalculationIsDisabledByDefault()
+        throws Exception
+    {
+        TaskSegment taskSegment = newTaskSegment();
+        MavenSession session = newSession( null );
+
+        RecordingCalculator calculator = new RecordingCalculator();
+        BuilderCommon builderCommon = newBuilderCommon( calculator );
+
+        builderCommon.precalculateBuildPlans( session,
+                                              newProjectBuildList( session, taskSegment, newProject( "a" ),
+                                                                   newProject( "b" ) ) );
+
+        assertEquals( Collections.<String> emptyList(), calculator.calculated );
+    }
+
+    public void testProjectUsingReactorPluginIsNotPrecalculated()
+        throws Exception
+    {
+        MavenProject tool = newProject( "tool" );
+        MavenProject app = newProject( "app" );
+        Plugin plugin = new Plugin();
+        plugin.setGroupId( "test" );
+        plugin.setArtifactId( "tool" );
+        app.getModel().getBuild().addPlugin( plugin );
+        TaskSegment taskSegment = newTaskSegment();
+        MavenSession session = newSession( "2" );
+
+        RecordingCalculator calculator = new RecordingCalculator();
+        BuilderCommon builderCommon = newBuilderCommon( calculator );
+
+        builderCommon.precalculateBuildPlans( session, newProjectBuildList( session, taskSegment, tool, app ) );
+
+        assertEquals( Collections.singletonList( "tool" ), calculator.calculated );
+        assertNull( plugin.getVersion() );
+    }
+
+    public void testPlanUsingReactorPluginIsDiscarded()
+        throws Exception
+    {
+        MavenProject tool = newProject( "tool" );
+        MavenProject app = newProject( "app" );
+        TaskSegment taskSegment = newTaskSegment();
+        taskSegment.getTasks().add( new GoalTask( "tool:run" ) );
+        MavenSession session = newSession( "2" );
+
+        RecordingCalculator calculator = new RecordingCalculator();
+        calculator.pluginArtifactIds.put( "app", "tool" );
+        BuilderCommon builderCommon = newBuilderCommon( calculator );
+
+        builderCommon.precalculateBuildPlans( session, newProjectBuildList( session, taskSegment, tool, app ) );
+        assertEquals( 2, calculator.calculated.size() );
+
+        builderCommon.resolveBuildPlan( session, app, taskSegment, new HashSet<Artifact>() );
+        assertEquals( 3, calculator.calculated.size() );
+        assertEquals( "app", calculator.calculated.get( 2 ) );
+    }
+
     public void testHandleBuildError()
         throws Exception
     {
@@ -73,4 +179,126 @@ public static BuilderCommon getBuilderCommon()
                                   new LoggerStub() );
     }
 
+    private static BuilderCommon newBuilderCommon( RecordingCalculator calculator )
+        throws Exception
+    {
+        LifecycleExecutionPlanCalculator planCalculator =
+            (LifecycleExecutionPlanCalculator) Proxy.newProxyInstance( BuilderCommonTest.class.getClassLoader(),
+                                                                       new Class<?>[] {
+                                                                           LifecycleExecutionPlanCalculator.class },
+                                                                       calculator );
+        BuilderCommon builderCommon =
+            new BuilderCommon( new LifecycleDebugLogger( new LoggerStub() ), planCalculator, new LoggerStub() );
+        ReflectionUtils.setVariableValueInObject( builderCommon, "sessionScope", calculator.sessionScope );
+        return builderCommon;
+    }
+
+    private static MavenSession newSession( String threads )
+    {
+        DefaultRepositorySystemSession repoSession = new DefaultRepositorySystemSession();
+        repoSession.setConfigProperty( "maven.buildPlan.precalculate", threads );
+        MavenSession session = new MavenSession( null, repoSession, new DefaultMavenExecutionRequest(),
+                                                 new DefaultMavenExecutionResult() );
+        session.setProjectDependencyGraph( new ProjectDependencyGraphStub() );
+        return session;
+    }
+
+    private static MavenProject newProject( String artifactId )
+    {
+        Model model = new Model();
+        model.setGroupId( "test" );
+        model.setArtifactId( artifactId );
+        model.setVersion( "1.0" );
+        model.setBuild( new Build() );
+        return new MavenProject( model );
+    }
+
+    private static TaskSegment newTaskSegment()
+    {
+        TaskSegment taskSegment = new TaskSegment( false );
+        taskSegment.getTasks().add( new LifecycleTask( "install" ) );
+        return taskSegment;
+    }
+
+    private static ProjectBuildList newProjectBuildList( MavenSession session, TaskSegment taskSegment,
+                                                         MavenProject... projects )
+    {
+        // the segment sessions are copies of the reactor session and hence start with the first project as current
+        session.setProjects( Arrays.asList( projects ) );
+        List<ProjectSegment> projectBuilds = new ArrayList<ProjectSegment>();
+        for ( MavenProject project : projects )
+        {
+            projectBuilds.add( new ProjectSegment( project, taskSegment, session.clone() ) );
+        }
+        return new ProjectBuildList( projectBuilds );
+    }
+
+    static class RecordingCalculator
+        implements InvocationHandler
+    {
+
+        final SessionScope sessionScope = new SessionScope();
+
+        final List<String> calculated = Collections.synchronizedList( new ArrayList<String>() );
+
+        final Map<String, MavenExecutionPlan> plans = new ConcurrentHashMap<String, MavenExecutionPlan>();
+
+        final Map<String, String> pluginArtifactIds = new HashMap<String, String>();
+
+        final AtomicInteger scopedSessions = new AtomicInteger();
+
+        final AtomicInteger currentProjects = new AtomicInteger();
+
+        public Object invoke( Object proxy, Method method, Object[] args )
+        {
+            if ( !"calculateExecutionPlan".equals( method.getName() ) )
+            {
+                throw new UnsupportedOperationException( method.getName() );
+            }
+
+            MavenSession session = (MavenSession) args[0];
+            MavenProject project = (MavenProject) args[1];
+
+            try
+            {
+                Key<MavenSession> key = Key.get( MavenSession.class );
+                if ( sessionScope.scope( key, SessionScope.<MavenSession> seededKeyProvider() ).get() == session )
+                {
+                    scopedSessions.incrementAndGet();
+                }
+            }
+            catch ( RuntimeException e )
+            {
+                // not in session scope
+            }
+
+            if ( session.getCurrentProject() == project )
+            {
+                currentProjects.incrementAndGet();
+            }
+
+            calculated.add( project.getArtifactId() );
+
+            List<MojoExecution> executions = new ArrayList<MojoExecution>();
+            String pluginArtifactId = pluginArtifactIds.get( project.getArtifactId() );
+            if ( pluginArtifactId != null )
+            {
+                PluginDescriptor pluginDescriptor = new PluginDescriptor();
+                pluginDescriptor.setGroupId( "test" );
+                pluginDescriptor.setArtifactId( pluginArtifactId );
+                pluginDescriptor.setVersion( "0.9" );
+                MojoDescriptor mojoDescriptor = new MojoDescriptor();
+                mojoDescriptor.setGoal( "run" );
+                mojoDescriptor.setPluginDescriptor( pluginDescriptor );
+                executions.add( new MojoExecution( mojoDescriptor ) );
+            }
+
+            MavenExecutionPlan plan =
+                new MavenExecutionPlan( ExecutionPlanItem.createExecutionPlanItems( project, executions ), null );
+            plans.put( project.getArtifactId(), plan );
+            return plan;
+        }
+
+    }
+
 }
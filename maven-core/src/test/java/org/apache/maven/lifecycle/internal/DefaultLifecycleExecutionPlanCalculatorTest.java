@@ -0,0 +1,138 @@
+package org.apache.maven.lifecycle.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import junit.framework.TestCase;
+
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+public class DefaultLifecycleExecutionPlanCalculatorTest
+    extends TestCase
+{
+
+    private DefaultLifecycleExecutionPlanCalculator calculator;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        calculator = new DefaultLifecycleExecutionPlanCalculator();
+    }
+
+    private MojoDescriptor newMojoDescriptor()
+        throws Exception
+    {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId( "org.apache.maven.plugins" );
+        pluginDescriptor.setArtifactId( "maven-compiler-plugin" );
+        pluginDescriptor.setVersion( "3.1" );
+
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal( "compile" );
+        mojoDescriptor.setPluginDescriptor( pluginDescriptor );
+        mojoDescriptor.setMojoConfiguration( newMojoConfiguration() );
+
+        Parameter parameter = new Parameter();
+        parameter.setName( "outputDirectory" );
+        mojoDescriptor.addParameter( parameter );
+
+        return mojoDescriptor;
+    }
+
+    private PlexusConfiguration newMojoConfiguration()
+    {
+        XmlPlexusConfiguration outputDirectory = new XmlPlexusConfiguration( "outputDirectory" );
+        outputDirectory.setAttribute( "default-value", "${project.build.outputDirectory}" );
+
+        XmlPlexusConfiguration configuration = new XmlPlexusConfiguration( "configuration" );
+        configuration.addChild( outputDirectory );
+        return configuration;
+    }
+
+    public void testReusesDefaultConfigurationForCopiesOfMojoDescriptor()
+        throws Exception
+    {
+        MojoDescriptor mojoDescriptor = newMojoDescriptor();
+
+        Xpp3Dom defaults = calculator.getMojoConfiguration( mojoDescriptor );
+
+        assertSame( defaults, calculator.getMojoConfiguration( mojoDescriptor.clone() ) );
+    }
+
+    public void testRecalculatesDefaultConfigurationForChangedSource()
+        throws Exception
+    {
+        MojoDescriptor mojoDescriptor = newMojoDescriptor();
+
+        Xpp3Dom defaults = calculator.getMojoConfiguration( mojoDescriptor );
+
+        MojoDescriptor reloaded = newMojoDescriptor();
+        XmlPlexusConfiguration configuration = new XmlPlexusConfiguration( "configuration" );
+        reloaded.setMojoConfiguration( configuration );
+
+        Xpp3Dom reloadedDefaults = calculator.getMojoConfiguration( reloaded );
+        assertNotSame( defaults, reloadedDefaults );
+        assertEquals( 0, reloadedDefaults.getChildCount() );
+    }
+
+    public void testFinalConfigurationIsSeparateFromReusedDefaults()
+        throws Exception
+    {
+        MojoDescriptor mojoDescriptor = newMojoDescriptor();
+
+        MojoExecution execution1 = new MojoExecution( mojoDescriptor );
+        calculator.finalizeMojoConfiguration( execution1 );
+
+        Xpp3Dom outputDirectory = execution1.getConfiguration().getChild( "outputDirectory" );
+        assertEquals( "${project.build.outputDirectory}", outputDirectory.getAttribute( "default-value" ) );
+        outputDirectory.setValue( "target/modified" );
+        outputDirectory.setAttribute( "default-value", "modified" );
+
+        MojoExecution execution2 = new MojoExecution( mojoDescriptor.clone() );
+        Xpp3Dom configuration = new Xpp3Dom( "configuration" );
+        Xpp3Dom explicit = new Xpp3Dom( "outputDirectory" );
+        explicit.setValue( "target/explicit" );
+        configuration.addChild( explicit );
+        execution2.setConfiguration( configuration );
+        calculator.finalizeMojoConfiguration( execution2 );
+
+        MojoExecution execution3 = new MojoExecution( mojoDescriptor.clone() );
+        calculator.finalizeMojoConfiguration( execution3 );
+
+        assertEquals( "target/explicit", execution2.getConfiguration().getChild( "outputDirectory" ).getValue() );
+        outputDirectory = execution3.getConfiguration().getChild( "outputDirectory" );
+        assertNull( outputDirectory.getValue() );
+        assertEquals( "${project.build.outputDirectory}", outputDirectory.getAttribute( "default-value" ) );
+
+        Xpp3Dom defaults = calculator.getMojoConfiguration( mojoDescriptor );
+        assertEquals( "${project.build.outputDirectory}",
+                      defaults.getChild( "outputDirectory" ).getAttribute( "default-value" ) );
+        assertNull( defaults.getChild( "outputDirectory" ).getValue() );
+    }
+
+}
@@ -0,0 +1,244 @@
+package org.apache.maven.lifecycle.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.logging.AbstractLogger;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.resolution.DependencyResult;
+
+public class DependencyPrefetcherTest
+    extends TestCase
+{
+
+    private DependencyPrefetcher prefetcher;
+
+    private DefaultRepositorySystemSession repoSession;
+
+    private MavenSession session;
+
+    private List<String> prefetched;
+
+    private List<Throwable> loggedFailures;
+
+    private boolean failing;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        prefetched = Collections.synchronizedList( new ArrayList<String>() );
+        loggedFailures = Collections.synchronizedList( new ArrayList<Throwable>() );
+        failing = false;
+
+        repoSession = new DefaultRepositorySystemSession();
+
+        session = new MavenSession( null, repoSession, new DefaultMavenExecutionRequest(),
+                                    new DefaultMavenExecutionResult() );
+        session.setProjects( Arrays.asList( newProject( "a" ), newProject( "b" ), newProject( "c" ) ) );
+
+        RepositorySystem repoSystem =
+            (RepositorySystem) Proxy.newProxyInstance( getClass().getClassLoader(),
+                                                       new Class<?>[] { RepositorySystem.class },
+                                                       new RepositorySystemHandler() );
+
+        prefetcher = new DependencyPrefetcher();
+        ReflectionUtils.setVariableValueInObject( prefetcher, "logger", new RecordingLogger() );
+        ReflectionUtils.setVariableValueInObject( prefetcher, "repoSystem", repoSystem );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        prefetcher.dispose();
+
+        super.tearDown();
+    }
+
+    private MavenProject newProject( String artifactId )
+    {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId( "org.example" );
+        dependency.setArtifactId( "external-" + artifactId );
+        dependency.setVersion( "1.0" );
+
+        Model model = new Model();
+        model.setGroupId( "org.example" );
+        model.setArtifactId( artifactId );
+        model.setVersion( "1.0" );
+        model.addDependency( dependency );
+
+        return new MavenProject( model );
+    }
+
+    private MavenProject getProject( int index )
+    {
+        return session.getProjects().get( index );
+    }
+
+    private void prefetch( int index )
+    {
+        prefetcher.schedule( session, getProject( index ), Arrays.asList( "compile" ) );
+        prefetcher.await( getProject( index ) );
+    }
+
+    public void testDisabledByDefault()
+    {
+        prefetch( 0 );
+        prefetch( 1 );
+        prefetch( 2 );
+
+        assertTrue( prefetched.isEmpty() );
+    }
+
+    public void testPrefetchesUpcomingProjects()
+    {
+        repoSession.setConfigProperty( DependencyPrefetcher.CONFIG_PROP_PREFETCH, "1" );
+
+        prefetch( 0 );
+        prefetcher.await( getProject( 1 ) );
+        assertEquals( Arrays.asList( "external-b" ), prefetched );
+
+        prefetch( 1 );
+        prefetcher.await( getProject( 2 ) );
+        assertEquals( Arrays.asList( "external-b", "external-c" ), prefetched );
+
+        prefetch( 2 );
+        assertEquals( 2, prefetched.size() );
+    }
+
+    public void testDisabledForParallelBuilds()
+    {
+        repoSession.setConfigProperty( DependencyPrefetcher.CONFIG_PROP_PREFETCH, "2" );
+        session.setParallel( true );
+
+        prefetch( 0 );
+        prefetcher.await( getProject( 1 ) );
+        prefetcher.await( getProject( 2 ) );
+
+        assertTrue( prefetched.isEmpty() );
+    }
+
+    public void testFailedPrefetchIsLoggedByAwait()
+    {
+        repoSession.setConfigProperty( DependencyPrefetcher.CONFIG_PROP_PREFETCH, "1" );
+        failing = true;
+
+        prefetch( 0 );
+        prefetcher.await( getProject( 1 ) );
+
+        assertEquals( 1, loggedFailures.size() );
+        assertTrue( loggedFailures.get( 0 ) instanceof DependencyResolutionException );
+
+        // the failure is reported once, the regular resolution of the project reports it again
+        prefetcher.await( getProject( 1 ) );
+        assertEquals( 1, loggedFailures.size() );
+    }
+
+    private class RepositorySystemHandler
+        implements InvocationHandler
+    {
+
+        public Object invoke( Object proxy, Method method, Object[] args )
+            throws Throwable
+        {
+            if ( "resolveDependencies".equals( method.getName() ) )
+            {
+                DependencyRequest request = (DependencyRequest) args[1];
+                for ( org.eclipse.aether.graph.Dependency dependency : request.getCollectRequest().getDependencies() )
+                {
+                    prefetched.add( dependency.getArtifact().getArtifactId() );
+                }
+                DependencyResult result = new DependencyResult( request );
+                if ( failing )
+                {
+                    throw new DependencyResolutionException( result, new IllegalStateException( "offline" ) );
+                }
+                return result;
+            }
+            return null;
+        }
+
+    }
+
+    private class RecordingLogger
+        extends AbstractLogger
+    {
+
+        RecordingLogger()
+        {
+            super( Logger.LEVEL_DEBUG, "test" );
+        }
+
+        public void debug( String message, Throwable throwable )
+        {
+            if ( throwable != null )
+            {
+                loggedFailures.add( throwable );
+            }
+        }
+
+        public void info( String message, Throwable throwable )
+        {
+        }
+
+        public void warn( String message, Throwable throwable )
+        {
+        }
+
+        public void error( String message, Throwable throwable )
+        {
+        }
+
+        public void fatalError( String message, Throwable throwable )
+        {
+        }
+
+        public Logger getChildLogger( String name )
+        {
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,268 @@
+package org.apache.maven.lifecycle.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
+import org.apache.maven.lifecycle.internal.stub.LoggerStub;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+
+public class MojoExecutorTest
+    extends TestCase
+{
+
+    private MojoExecutor executor;
+
+    private DefaultRepositorySystemSession repoSession;
+
+    private MavenSession session;
+
+    private MavenProject project;
+
+    private ProjectIndex projectIndex;
+
+    private List<String> executedGoals;
+
+    private List<ExecutionEvent.Type> events;
+
+    private boolean failing;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        executedGoals = new ArrayList<String>();
+        events = new ArrayList<ExecutionEvent.Type>();
+
+        Model model = new Model();
+        model.setGroupId( "test" );
+        model.setArtifactId( "app" );
+        model.setVersion( "1.0" );
+        project = new MavenProject( model );
+
+        repoSession = new DefaultRepositorySystemSession();
+        repoSession.setConfigProperty( MojoExecutor.CONFIG_PROP_FORK_REUSE, "test:forking:first,test:forking:second" );
+
+        session = new MavenSession( null, repoSession, new DefaultMavenExecutionRequest(),
+                                    new DefaultMavenExecutionResult() );
+        session.setProjects( new ArrayList<MavenProject>( Collections.singletonList( project ) ) );
+        session.setCurrentProject( project );
+
+        projectIndex = new ProjectIndex( session.getProjects() );
+
+        InvocationHandler pluginManager = new InvocationHandler()
+        {
+            public Object invoke( Object proxy, Method method, Object[] args )
+                throws Throwable
+            {
+                if ( "executeMojo".equals( method.getName() ) )
+                {
+                    if ( failing )
+                    {
+                        throw new MojoExecutionException( "failed" );
+                    }
+                    executedGoals.add( ( (MojoExecution) args[1] ).getGoal() );
+                }
+                return null;
+            }
+        };
+
+        ExecutionEventCatapult eventCatapult = new ExecutionEventCatapult()
+        {
+            public void fire( ExecutionEvent.Type eventType, MavenSession session, MojoExecution mojoExecution )
+            {
+                events.add( eventType );
+            }
+
+            public void fire( ExecutionEvent.Type eventType, MavenSession session, MojoExecution mojoExecution,
+                              Exception exception )
+            {
+                events.add( eventType );
+            }
+        };
+
+        LifecycleDependencyResolver dependencyResolver = new LifecycleDependencyResolver()
+        {
+            @Override
+            public void resolveProjectDependencies( MavenProject project, Collection<String> scopesToCollect,
+                                                    Collection<String> scopesToResolve, MavenSession session,
+                                                    boolean aggregating, Set<Artifact> projectArtifacts )
+            {
+            }
+        };
+
+        executor = new MojoExecutor();
+        ReflectionUtils.setVariableValueInObject( executor, "logger", new LoggerStub() );
+        ReflectionUtils.setVariableValueInObject( executor, "lifeCycleDependencyResolver", dependencyResolver );
+        ReflectionUtils.setVariableValueInObject( executor, "eventCatapult", eventCatapult );
+        ReflectionUtils.setVariableValueInObject( executor, "pluginManager",
+                                                  newProxy( BuildPluginManager.class, pluginManager ) );
+        ReflectionUtils.setVariableValueInObject( executor, "mavenPluginManager",
+                                                  newProxy( MavenPluginManager.class, pluginManager ) );
+    }
+
+    private static Object newProxy( Class<?> type, InvocationHandler handler )
+    {
+        return Proxy.newProxyInstance( MojoExecutorTest.class.getClassLoader(), new Class<?>[] { type }, handler );
+    }
+
+    private static MojoDescriptor newMojoDescriptor( String artifactId, String goal )
+    {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId( "test" );
+        pluginDescriptor.setArtifactId( artifactId );
+        pluginDescriptor.setVersion( "1.0" );
+
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal( goal );
+        mojoDescriptor.setProjectRequired( false );
+        mojoDescriptor.setPluginDescriptor( pluginDescriptor );
+        return mojoDescriptor;
+    }
+
+    private static Xpp3Dom newConfiguration( String value )
+    {
+        Xpp3Dom child = new Xpp3Dom( "mode" );
+        child.setValue( value );
+        Xpp3Dom configuration = new Xpp3Dom( "configuration" );
+        configuration.addChild( child );
+        return configuration;
+    }
+
+    private MojoExecution newForkingExecution( String goal, Xpp3Dom forkedConfiguration )
+    {
+        MojoExecution forked = new MojoExecution( newMojoDescriptor( "forked", "generate" ), "default-generate" );
+        forked.setConfiguration( forkedConfiguration );
+
+        MojoExecution forking = new MojoExecution( newMojoDescriptor( "forking", goal ), "default-" + goal );
+        forking.setForkedExecutions( BuilderCommon.getKey( project ), Collections.singletonList( forked ) );
+        return forking;
+    }
+
+    private MavenProject fork( MojoExecution forkingExecution )
+        throws LifecycleExecutionException
+    {
+        executor.executeForkedExecutions( forkingExecution, session, projectIndex );
+        MavenProject executedProject = project.getExecutionProject();
+        assertNotNull( executedProject );
+        assertNotSame( project, executedProject );
+        return executedProject;
+    }
+
+    public void testIdenticalForkIsReused()
+        throws Exception
+    {
+        MavenProject first = fork( newForkingExecution( "first", newConfiguration( "a" ) ) );
+        first.addCompileSourceRoot( "first" );
+        events.clear();
+
+        MavenProject second = fork( newForkingExecution( "second", newConfiguration( "a" ) ) );
+
+        assertEquals( Collections.singletonList( "generate" ), executedGoals );
+        assertNotSame( first, second );
+        assertFalse( second.getCompileSourceRoots().contains( "first" ) );
+        assertEquals( Arrays.asList( ExecutionEvent.Type.ForkStarted, ExecutionEvent.Type.ForkedProjectStarted,
+                                     ExecutionEvent.Type.ForkedProjectSucceeded, ExecutionEvent.Type.ForkSucceeded ),
+                      events );
+        assertSame( project, session.getCurrentProject() );
+    }
+
+    public void testForkWithDifferentConfigurationIsNotReused()
+        throws Exception
+    {
+        fork( newForkingExecution( "first", newConfiguration( "a" ) ) );
+        fork( newForkingExecution( "second", newConfiguration( "b" ) ) );
+
+        assertEquals( Arrays.asList( "generate", "generate" ), executedGoals );
+    }
+
+    public void testForkWithConfigurationChangedInPlaceIsNotReused()
+        throws Exception
+    {
+        Xpp3Dom configuration = newConfiguration( "a" );
+        fork( newForkingExecution( "first", configuration ) );
+
+        configuration.getChild( "mode" ).setValue( "b" );
+        fork( newForkingExecution( "second", configuration ) );
+
+        assertEquals( Arrays.asList( "generate", "generate" ), executedGoals );
+    }
+
+    public void testForkIsNotReusedWithoutOptIn()
+        throws Exception
+    {
+        repoSession.setConfigProperty( MojoExecutor.CONFIG_PROP_FORK_REUSE, "test:forking:first" );
+
+        fork( newForkingExecution( "first", newConfiguration( "a" ) ) );
+        fork( newForkingExecution( "second", newConfiguration( "a" ) ) );
+
+        assertEquals( Arrays.asList( "generate", "generate" ), executedGoals );
+    }
+
+    public void testFailedForkIsNotReused()
+        throws Exception
+    {
+        failing = true;
+        try
+        {
+            fork( newForkingExecution( "first", newConfiguration( "a" ) ) );
+            fail( "forked execution did not fail" );
+        }
+        catch ( LifecycleExecutionException e )
+        {
+            assertTrue( events.contains( ExecutionEvent.Type.ForkedProjectFailed ) );
+        }
+        failing = false;
+
+        fork( newForkingExecution( "second", newConfiguration( "a" ) ) );
+
+        assertEquals( Collections.singletonList( "generate" ), executedGoals );
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.apache.maven.plugin;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+
+public class DefaultPluginDescriptorCacheTest
+    extends TestCase
+{
+
+    private File file;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        file = File.createTempFile( "plugin", ".jar" );
+        file.setLastModified( 100000 );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        file.delete();
+
+        super.tearDown();
+    }
+
+    private PluginDescriptor newDescriptor( String version )
+    {
+        Artifact artifact =
+            new DefaultArtifact( "org.example", "example-maven-plugin", version, null, "maven-plugin", null,
+                                 new DefaultArtifactHandler( "maven-plugin" ) );
+        artifact.setFile( file );
+
+        PluginDescriptor descriptor = new PluginDescriptor();
+        descriptor.setGroupId( "org.example" );
+        descriptor.setArtifactId( "example-maven-plugin" );
+        descriptor.setVersion( version );
+        descriptor.setPluginArtifact( artifact );
+        return descriptor;
+    }
+
+    public void testDropsDescriptorOfChangedSnapshot()
+        throws Exception
+    {
+        DefaultPluginDescriptorCache cache = new DefaultPluginDescriptorCache();
+        PluginDescriptorCache.Key key = new PluginDescriptorCache.Key()
+        {
+        };
+
+        cache.put( key, newDescriptor( "1.0-SNAPSHOT" ) );
+
+        assertNotNull( cache.get( key ) );
+
+        file.setLastModified( 200000 );
+
+        assertNull( cache.get( key ) );
+    }
+
+    public void testIgnoresChangedReleases()
+        throws Exception
+    {
+        DefaultPluginDescriptorCache cache = new DefaultPluginDescriptorCache();
+        PluginDescriptorCache.Key key = new PluginDescriptorCache.Key()
+        {
+        };
+
+        cache.put( key, newDescriptor( "1.0" ) );
+
+        file.setLastModified( 200000 );
+
+        assertNotNull( cache.get( key ) );
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.apache.maven.plugin;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+public class DefaultPluginRealmCacheTest
+    extends TestCase
+{
+
+    private ClassWorld world;
+
+    private File file;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        world = new ClassWorld();
+        file = File.createTempFile( "plugin", ".jar" );
+        file.setLastModified( 100000 );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        file.delete();
+
+        super.tearDown();
+    }
+
+    private Artifact newArtifact( String version )
+    {
+        Artifact artifact =
+            new DefaultArtifact( "org.example", "example-maven-plugin", version, null, "maven-plugin", null,
+                                 new DefaultArtifactHandler( "maven-plugin" ) );
+        artifact.setFile( file );
+        return artifact;
+    }
+
+    public void testReusesRealmOfUnchangedSnapshot()
+        throws Exception
+    {
+        DefaultPluginRealmCache cache = new DefaultPluginRealmCache();
+        PluginRealmCache.Key key = new PluginRealmCache.Key()
+        {
+        };
+
+        ClassRealm realm = world.newRealm( "plugin" );
+        PluginRealmCache.CacheRecord record = cache.put( key, realm, Arrays.asList( newArtifact( "1.0-SNAPSHOT" ) ) );
+
+        assertSame( record, cache.get( key ) );
+        assertSame( realm, world.getClassRealm( "plugin" ) );
+    }
+
+    public void testKeepsRealmOfChangedSnapshotUntilFlush()
+        throws Exception
+    {
+        DefaultPluginRealmCache cache = new DefaultPluginRealmCache();
+        PluginRealmCache.Key key = new PluginRealmCache.Key()
+        {
+        };
+
+        ClassRealm realm = world.newRealm( "plugin" );
+        cache.put( key, realm, Arrays.asList( newArtifact( "1.0-SNAPSHOT" ) ) );
+
+        file.setLastModified( 200000 );
+
+        assertNull( cache.get( key ) );
+        // mojos of other projects may still be running from the stale realm
+        assertSame( realm, world.getClassRealm( "plugin" ) );
+
+        // the key can be used for the replacement realm
+        ClassRealm replacement = world.newRealm( "plugin-1" );
+        cache.put( key, replacement, Arrays.asList( newArtifact( "1.0-SNAPSHOT" ) ) );
+        assertSame( replacement, cache.get( key ).realm );
+
+        cache.flush();
+        assertNull( world.getClassRealm( "plugin" ) );
+        assertNull( world.getClassRealm( "plugin-1" ) );
+    }
+
+    public void testIgnoresChangedReleases()
+        throws Exception
+    {
+        DefaultPluginRealmCache cache = new DefaultPluginRealmCache();
+        PluginRealmCache.Key key = new PluginRealmCache.Key()
+        {
+        };
+
+        ClassRealm realm = world.newRealm( "plugin" );
+        PluginRealmCache.CacheRecord record = cache.put( key, realm, Arrays.asList( newArtifact( "1.0" ) ) );
+
+        file.setLastModified( 200000 );
+
+        assertSame( record, cache.get( key ) );
+    }
+
+}
@@ -231,6 +231,28 @@ public void testMultipleSubExpressionsInLargerExpression()
         assertEquals( "test with version: 1", value );
     }
 
+    public void testSameExpressionEvaluatedAgainstDifferentProjects()
+        throws Exception
+    {
+        String key = "${project.artifactId}-${version.suffix}";
+
+        Model model = new Model();
+        model.setArtifactId( "first" );
+        model.getProperties().setProperty( "version.suffix", "1" );
+
+        ExpressionEvaluator ee = createExpressionEvaluator( new MavenProject( model ), null, new Properties() );
+
+        assertEquals( "first-1", ee.evaluate( key ) );
+
+        model = new Model();
+        model.setArtifactId( "second" );
+        model.getProperties().setProperty( "version.suffix", "2" );
+
+        ee = createExpressionEvaluator( new MavenProject( model ), null, new Properties() );
+
+        assertEquals( "second-2", ee.evaluate( key ) );
+    }
+
     public void testMissingPOMPropertyRefInLargerExpression()
         throws Exception
     {
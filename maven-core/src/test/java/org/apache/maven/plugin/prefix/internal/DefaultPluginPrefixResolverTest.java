@@ -0,0 +1,237 @@
+package org.apache.maven.plugin.prefix.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.io.MetadataReader;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.prefix.DefaultPluginPrefixRequest;
+import org.apache.maven.plugin.prefix.PluginPrefixResult;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.resolution.MetadataRequest;
+import org.eclipse.aether.resolution.MetadataResult;
+
+public class DefaultPluginPrefixResolverTest
+    extends TestCase
+{
+
+    private DefaultPluginPrefixResolver resolver;
+
+    private DefaultRepositorySystemSession session;
+
+    private File metadataFile;
+
+    private int metadataResolutions;
+
+    private int pluginLoads;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        metadataFile = File.createTempFile( "maven-metadata", ".xml" );
+        metadataResolutions = 0;
+        pluginLoads = 0;
+
+        session = new DefaultRepositorySystemSession();
+        session.setLocalRepositoryManager( stub( LocalRepositoryManager.class ) );
+        session.setOffline( true );
+
+        resolver = new DefaultPluginPrefixResolver();
+        ReflectionUtils.setVariableValueInObject( resolver, "logger", new ConsoleLogger() );
+        ReflectionUtils.setVariableValueInObject( resolver, "pluginManager", stub( BuildPluginManager.class ) );
+        ReflectionUtils.setVariableValueInObject( resolver, "repositorySystem", stub( RepositorySystem.class ) );
+        ReflectionUtils.setVariableValueInObject( resolver, "metadataReader", stub( MetadataReader.class ) );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        metadataFile.delete();
+
+        super.tearDown();
+    }
+
+    private <T> T stub( Class<T> type )
+    {
+        return type.cast( Proxy.newProxyInstance( getClass().getClassLoader(), new Class<?>[] { type },
+                                                  new StubHandler() ) );
+    }
+
+    private DefaultPluginPrefixRequest newRequest( String prefix, String pluginGroup, String repositoryId )
+    {
+        List<RemoteRepository> repositories = new ArrayList<RemoteRepository>();
+        repositories.add( new RemoteRepository.Builder( repositoryId, "default", "http://" + repositoryId ).build() );
+
+        DefaultPluginPrefixRequest request = new DefaultPluginPrefixRequest();
+        request.setPrefix( prefix );
+        request.setPluginGroups( Arrays.asList( pluginGroup ) );
+        request.setRepositories( repositories );
+        request.setRepositorySession( session );
+        return request;
+    }
+
+    private Model newPom( String... artifactIds )
+    {
+        Build build = new Build();
+        for ( String artifactId : artifactIds )
+        {
+            Plugin plugin = new Plugin();
+            plugin.setGroupId( "org.apache.maven.plugins" );
+            plugin.setArtifactId( artifactId );
+            plugin.setVersion( "1.0" );
+            build.addPlugin( plugin );
+        }
+
+        Model pom = new Model();
+        pom.setBuild( build );
+        return pom;
+    }
+
+    public void testCachesPrefixResolvedFromRepository()
+        throws Exception
+    {
+        PluginPrefixResult result = resolver.resolve( newRequest( "compiler", "org.apache.maven.plugins", "central" ) );
+        assertEquals( "maven-compiler-plugin", result.getArtifactId() );
+
+        assertSame( result, resolver.resolve( newRequest( "compiler", "org.apache.maven.plugins", "central" ) ) );
+        assertEquals( 1, metadataResolutions );
+    }
+
+    public void testDoesNotSharePrefixesAcrossPluginGroups()
+        throws Exception
+    {
+        resolver.resolve( newRequest( "compiler", "org.apache.maven.plugins", "central" ) );
+        resolver.resolve( newRequest( "compiler", "org.codehaus.mojo", "central" ) );
+
+        assertEquals( 2, metadataResolutions );
+    }
+
+    public void testDoesNotSharePrefixesAcrossRepositories()
+        throws Exception
+    {
+        resolver.resolve( newRequest( "compiler", "org.apache.maven.plugins", "central" ) );
+        resolver.resolve( newRequest( "compiler", "org.apache.maven.plugins", "snapshots" ) );
+
+        assertEquals( 2, metadataResolutions );
+    }
+
+    public void testDoesNotSharePrefixesAcrossProjectPlugins()
+        throws Exception
+    {
+        DefaultPluginPrefixRequest request = newRequest( "compiler", "org.apache.maven.plugins", "central" );
+        resolver.resolve( request.setPom( newPom( "maven-compiler-plugin" ) ) );
+        resolver.resolve( request.setPom( newPom( "maven-compiler-plugin" ) ) );
+        assertEquals( 1, pluginLoads );
+
+        PluginPrefixResult result = resolver.resolve( request.setPom( newPom( "maven-jar-plugin" ) ) );
+        assertEquals( 2, pluginLoads );
+        assertEquals( "maven-compiler-plugin", result.getArtifactId() );
+        assertEquals( 1, metadataResolutions );
+    }
+
+    public void testDoesNotCachePrefixesForProjectsWithWorkspacePlugins()
+        throws Exception
+    {
+        session.setWorkspaceReader( stub( WorkspaceReader.class ) );
+
+        DefaultPluginPrefixRequest request = newRequest( "compiler", "org.apache.maven.plugins", "central" );
+        resolver.resolve( request.setPom( newPom( "maven-reactor-plugin" ) ) );
+        resolver.resolve( request.setPom( newPom( "maven-reactor-plugin" ) ) );
+
+        assertEquals( 2, pluginLoads );
+        assertEquals( 2, metadataResolutions );
+    }
+
+    private class StubHandler
+        implements InvocationHandler
+    {
+
+        public Object invoke( Object proxy, Method method, Object[] args )
+        {
+            if ( "resolveMetadata".equals( method.getName() ) )
+            {
+                metadataResolutions++;
+                List<MetadataResult> results = new ArrayList<MetadataResult>();
+                for ( Object request : (List<?>) args[1] )
+                {
+                    MetadataRequest req = (MetadataRequest) request;
+                    results.add( new MetadataResult( req ).setMetadata( req.getMetadata().setFile( metadataFile ) ) );
+                }
+                return results;
+            }
+            else if ( "read".equals( method.getName() ) )
+            {
+                org.apache.maven.artifact.repository.metadata.Plugin plugin =
+                    new org.apache.maven.artifact.repository.metadata.Plugin();
+                plugin.setPrefix( "compiler" );
+                plugin.setArtifactId( "maven-compiler-plugin" );
+                Metadata metadata = new Metadata();
+                metadata.addPlugin( plugin );
+                return metadata;
+            }
+            else if ( "findVersions".equals( method.getName() ) )
+            {
+                Artifact artifact = (Artifact) args[0];
+                if ( "maven-reactor-plugin".equals( artifact.getArtifactId() ) )
+                {
+                    return Collections.singletonList( "1.0-SNAPSHOT" );
+                }
+                return Collections.emptyList();
+            }
+            else if ( "loadPlugin".equals( method.getName() ) )
+            {
+                pluginLoads++;
+                Plugin plugin = (Plugin) args[0];
+                PluginDescriptor descriptor = new PluginDescriptor();
+                descriptor.setGoalPrefix( plugin.getArtifactId().replace( "maven-", "" ).replace( "-plugin", "" ) );
+                return descriptor;
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,232 @@
+package org.apache.maven.plugin.version.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.apache.maven.artifact.repository.metadata.io.MetadataReader;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.version.DefaultPluginVersionRequest;
+import org.apache.maven.plugin.version.PluginVersionRequest;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.resolution.MetadataRequest;
+import org.eclipse.aether.resolution.MetadataResult;
+
+public class DefaultPluginVersionResolverTest
+    extends TestCase
+{
+
+    private DefaultPluginVersionResolver resolver;
+
+    private DefaultRepositorySystemSession session;
+
+    private File metadataFile;
+
+    private String release;
+
+    private int metadataResolutions;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        metadataFile = File.createTempFile( "maven-metadata", ".xml" );
+        release = "1.0";
+        metadataResolutions = 0;
+
+        session = new DefaultRepositorySystemSession();
+        session.setLocalRepositoryManager( stub( LocalRepositoryManager.class ) );
+
+        resolver = new DefaultPluginVersionResolver();
+        ReflectionUtils.setVariableValueInObject( resolver, "logger", new ConsoleLogger() );
+        ReflectionUtils.setVariableValueInObject( resolver, "repositorySystem", stub( RepositorySystem.class ) );
+        ReflectionUtils.setVariableValueInObject( resolver, "metadataReader", stub( MetadataReader.class ) );
+        ReflectionUtils.setVariableValueInObject( resolver, "pluginManager", stub( MavenPluginManager.class ) );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        metadataFile.delete();
+
+        super.tearDown();
+    }
+
+    private <T> T stub( Class<T> type )
+    {
+        return type.cast( Proxy.newProxyInstance( getClass().getClassLoader(), new Class<?>[] { type },
+                                                  new StubHandler() ) );
+    }
+
+    private PluginVersionRequest newRequest( String... repositoryIds )
+    {
+        List<RemoteRepository> repositories = new ArrayList<RemoteRepository>();
+        for ( String id : repositoryIds )
+        {
+            repositories.add( new RemoteRepository.Builder( id, "default", "http://" + id ).build() );
+        }
+
+        Plugin plugin = new Plugin();
+        plugin.setGroupId( "org.apache.maven.plugins" );
+        plugin.setArtifactId( "maven-compiler-plugin" );
+
+        return new DefaultPluginVersionRequest( plugin, session, repositories );
+    }
+
+    public void testCachesVersionResolvedFromRemoteRepository()
+        throws Exception
+    {
+        assertEquals( "1.0", resolver.resolve( newRequest( "central" ) ).getVersion() );
+
+        release = "2.0";
+
+        assertEquals( "1.0", resolver.resolve( newRequest( "central" ) ).getVersion() );
+        assertEquals( 1, metadataResolutions );
+    }
+
+    public void testDoesNotShareVersionsAcrossRepositoryLists()
+        throws Exception
+    {
+        assertEquals( "1.0", resolver.resolve( newRequest( "central" ) ).getVersion() );
+
+        release = "2.0";
+
+        assertEquals( "2.0", resolver.resolve( newRequest( "central", "snapshots" ) ).getVersion() );
+        assertEquals( 2, metadataResolutions );
+    }
+
+    public void testDoesNotCacheSnapshotVersions()
+        throws Exception
+    {
+        release = "1.0-SNAPSHOT";
+
+        resolver.resolve( newRequest( "central" ) );
+        resolver.resolve( newRequest( "central" ) );
+
+        assertEquals( 2, metadataResolutions );
+    }
+
+    public void testDoesNotCacheVersionsOfWorkspacePlugins()
+        throws Exception
+    {
+        session.setWorkspaceReader( new WorkspaceReader()
+        {
+            public WorkspaceRepository getRepository()
+            {
+                return new WorkspaceRepository();
+            }
+
+            public File findArtifact( Artifact artifact )
+            {
+                return null;
+            }
+
+            public List<String> findVersions( Artifact artifact )
+            {
+                return Collections.singletonList( "2.0-SNAPSHOT" );
+            }
+        } );
+
+        resolver.resolve( newRequest( "central" ) );
+        resolver.resolve( newRequest( "central" ) );
+
+        assertEquals( 2, metadataResolutions );
+    }
+
+    public void testCacheIsScopedToRepositorySession()
+        throws Exception
+    {
+        resolver.resolve( newRequest( "central" ) );
+
+        session = new DefaultRepositorySystemSession( session );
+        session.setData( new DefaultSessionData() );
+
+        resolver.resolve( newRequest( "central" ) );
+
+        assertEquals( 2, metadataResolutions );
+    }
+
+    private class StubHandler
+        implements InvocationHandler
+    {
+
+        public Object invoke( Object proxy, Method method, Object[] args )
+        {
+            if ( "resolveMetadata".equals( method.getName() ) )
+            {
+                metadataResolutions++;
+                List<MetadataResult> results = new ArrayList<MetadataResult>();
+                for ( Object request : (List<?>) args[1] )
+                {
+                    MetadataRequest req = (MetadataRequest) request;
+                    MetadataResult result = new MetadataResult( req );
+                    if ( req.getRepository() != null )
+                    {
+                        result.setMetadata( req.getMetadata().setFile( metadataFile ) );
+                    }
+                    results.add( result );
+                }
+                return results;
+            }
+            else if ( "read".equals( method.getName() ) )
+            {
+                Versioning versioning = new Versioning();
+                versioning.setRelease( release );
+                versioning.setLastUpdated( "20140101000000" );
+                versioning.setVersions( Arrays.asList( release ) );
+                Metadata metadata = new Metadata();
+                metadata.setVersioning( versioning );
+                return metadata;
+            }
+            else if ( "getPluginDescriptor".equals( method.getName() ) )
+            {
+                return new PluginDescriptor();
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.apache.maven.project;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class CopyOnWriteListTest
+    extends TestCase
+{
+
+    public void testCopySharesElementsUntilModified()
+    {
+        CopyOnWriteList<String> original = new CopyOnWriteList<String>( Arrays.asList( "a", "b" ) );
+        CopyOnWriteList<String> copy = original.copy();
+
+        assertEquals( original, copy );
+
+        copy.add( "c" );
+        assertEquals( Arrays.asList( "a", "b", "c" ), copy );
+        assertEquals( Arrays.asList( "a", "b" ), original );
+
+        original.set( 0, "x" );
+        assertEquals( Arrays.asList( "x", "b" ), original );
+        assertEquals( Arrays.asList( "a", "b", "c" ), copy );
+    }
+
+    public void testModificationOfOriginalIsNotVisibleInCopy()
+    {
+        CopyOnWriteList<String> original = new CopyOnWriteList<String>( Arrays.asList( "a", "b" ) );
+        List<String> copy = original.copy();
+
+        original.remove( "a" );
+        original.add( "c" );
+
+        assertEquals( Arrays.asList( "b", "c" ), original );
+        assertEquals( Arrays.asList( "a", "b" ), copy );
+    }
+
+    public void testCopyOfCopy()
+    {
+        CopyOnWriteList<String> original = new CopyOnWriteList<String>( Arrays.asList( "a" ) );
+        CopyOnWriteList<String> copy = original.copy().copy();
+
+        copy.clear();
+
+        assertTrue( copy.isEmpty() );
+        assertEquals( Arrays.asList( "a" ), original );
+    }
+
+    public void testIteratorRemove()
+    {
+        CopyOnWriteList<String> original = new CopyOnWriteList<String>( Arrays.asList( "a", "b" ) );
+        List<String> copy = original.copy();
+
+        for ( Iterator<String> it = copy.iterator(); it.hasNext(); )
+        {
+            if ( "a".equals( it.next() ) )
+            {
+                it.remove();
+            }
+        }
+
+        assertEquals( Arrays.asList( "b" ), copy );
+        assertEquals( Arrays.asList( "a", "b" ), original );
+    }
+
+}
@@ -21,6 +21,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -179,6 +180,26 @@ public void testCloneWithActiveProfile()
                        activeProfilesClone );
     }
 
+    public void testCloneIsolatesSourceRootsAndAttachedArtifacts()
+        throws Exception
+    {
+        File f = getFileForClasspathResource( "canonical-pom.xml" );
+        MavenProject projectToClone = getProject( f );
+        List<String> sourceRootsOrig = new ArrayList<String>( projectToClone.getCompileSourceRoots() );
+
+        MavenProject clonedProject = projectToClone.clone();
+        clonedProject.addCompileSourceRoot( "target/generated-sources" );
+        clonedProject.addAttachedArtifact( projectToClone.getArtifact() );
+
+        assertEquals( sourceRootsOrig, projectToClone.getCompileSourceRoots() );
+        assertEquals( sourceRootsOrig.size() + 1, clonedProject.getCompileSourceRoots().size() );
+        assertTrue( projectToClone.getAttachedArtifacts().isEmpty() );
+        assertEquals( 1, clonedProject.getAttachedArtifacts().size() );
+
+        projectToClone.getCompileSourceRoots().clear();
+        assertEquals( sourceRootsOrig.size() + 1, clonedProject.getCompileSourceRoots().size() );
+    }
+
     public void testUndefinedOutputDirectory()
         throws Exception
     {
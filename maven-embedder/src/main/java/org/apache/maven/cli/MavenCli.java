@@ -133,6 +133,12 @@
 
     private DefaultSecDispatcher dispatcher;
 
+    private final boolean reuseContainer;
+
+    private DefaultPlexusContainer reusableContainer;
+
+    private String reusableContainerExtClassPath;
+
     public MavenCli()
     {
         this( null );
@@ -140,8 +146,44 @@ public MavenCli()
 
     // This supports painless invocation by the Verifier during embedded execution of the core ITs
     public MavenCli( ClassWorld classWorld )
+    {
+        this( classWorld, false );
+    }
+
+    /**
+     * Creates a new command line interface that can optionally keep its container alive across invocations of
+     * {@link #doMain(String[], String, PrintStream, PrintStream)}. Reusing the container saves its startup time and
+     * retains the in-memory caches of the container components, e.g. plugin descriptors and class realms, for
+     * subsequent builds run from the same JVM. The container is recreated if the extension class path changes between
+     * invocations. Callers enabling container reuse are responsible to call {@link #dispose()} when done. The logging
+     * options are applied anew by each invocation, an invocation without {@code -X} or {@code -q} logs at the level
+     * configured for the logging implementation. The slf4j binding itself is shared by the whole JVM and cannot be
+     * exchanged between invocations.
+     * 
+     * @param classWorld The class world to create the container in, may be {@code null}.
+     * @param reuseContainer {@code true} to keep the container between invocations, {@code false} to create a new one
+     *            for each invocation.
+     * @since 3.2.4
+     */
+    public MavenCli( ClassWorld classWorld, boolean reuseContainer )
     {
         this.classWorld = classWorld;
+        this.reuseContainer = reuseContainer;
+    }
+
+    /**
+     * Disposes the container retained from previous invocations, if any.
+     * 
+     * @since 3.2.4
+     */
+    public void dispose()
+    {
+        if ( reusableContainer != null )
+        {
+            reusableContainer.dispose();
+            reusableContainer = null;
+            reusableContainerExtClassPath = null;
+        }
     }
 
     public static void main( String[] args )
@@ -236,7 +278,7 @@ public int doMain( CliRequest cliRequest )
         }
         finally
         {
-            if ( localContainer != null )
+            if ( localContainer != null && localContainer != reusableContainer )
             {
                 localContainer.dispose();
             }
@@ -319,8 +361,13 @@ else if ( cliRequest.quiet )
             cliRequest.request.setLoggingLevel( MavenExecutionRequest.LOGGING_LEVEL_ERROR );
             slf4jConfiguration.setRootLoggerLevel( Slf4jConfiguration.Level.ERROR );
         }
-        // else fall back to default log level specified in conf
-        // see http://jira.codehaus.org/browse/MNG-2570
+        else
+        {
+            // fall back to default log level specified in conf
+            // see http://jira.codehaus.org/browse/MNG-2570
+            // the slf4j binding is shared by all invocations from this JVM, so undo the level of a previous one
+            slf4jConfiguration.resetRootLoggerLevel();
+        }
 
         if ( cliRequest.commandLine.hasOption( CLIManager.LOG_FILE ) )
         {
@@ -381,34 +428,59 @@ private void properties( CliRequest cliRequest )
     private PlexusContainer container( CliRequest cliRequest )
         throws Exception
     {
-        if ( cliRequest.classWorld == null )
-        {
-            cliRequest.classWorld = new ClassWorld( "plexus.core", Thread.currentThread().getContextClassLoader() );
-        }
-
         DefaultPlexusContainer container;
 
-        ContainerConfiguration cc = new DefaultContainerConfiguration()
-            .setClassWorld( cliRequest.classWorld )
-            .setRealm( setupContainerRealm( cliRequest ) )
-            .setClassPathScanning( PlexusConstants.SCANNING_INDEX )
-            .setAutoWiring( true )
-            .setName( "maven" );
+        String extClassPath = getExtClassPath( cliRequest );
+
+        if ( reusableContainer != null
+            && ( cliRequest.classWorld == null
+                || cliRequest.classWorld == reusableContainer.getContainerRealm().getWorld() )
+            && StringUtils.equals( extClassPath, reusableContainerExtClassPath ) )
+        {
+            container = reusableContainer;
+
+            // components of the retained container must log according to the options of this invocation
+            container.setLoggerManager( plexusLoggerManager );
 
-        container = new DefaultPlexusContainer( cc, new AbstractModule()
+            cliRequest.classWorld = container.getContainerRealm().getWorld();
+        }
+        else
         {
-            protected void configure()
+            dispose();
+
+            if ( cliRequest.classWorld == null )
             {
-                bind( ILoggerFactory.class ).toInstance( slf4jLoggerFactory );
+                cliRequest.classWorld = new ClassWorld( "plexus.core", Thread.currentThread().getContextClassLoader() );
             }
-        } );
 
-        // NOTE: To avoid inconsistencies, we'll use the TCCL exclusively for lookups
-        container.setLookupRealm( null );
+            ContainerConfiguration cc = new DefaultContainerConfiguration()
+                .setClassWorld( cliRequest.classWorld )
+                .setRealm( setupContainerRealm( cliRequest, extClassPath ) )
+                .setClassPathScanning( PlexusConstants.SCANNING_INDEX )
+                .setAutoWiring( true )
+                .setName( "maven" );
+
+            container = new DefaultPlexusContainer( cc, new AbstractModule()
+            {
+                protected void configure()
+                {
+                    bind( ILoggerFactory.class ).toInstance( slf4jLoggerFactory );
+                }
+            } );
+
+            // NOTE: To avoid inconsistencies, we'll use the TCCL exclusively for lookups
+            container.setLookupRealm( null );
+
+            container.setLoggerManager( plexusLoggerManager );
 
-        container.setLoggerManager( plexusLoggerManager );
+            customizeContainer( container );
 
-        customizeContainer( container );
+            if ( reuseContainer )
+            {
+                reusableContainer = container;
+                reusableContainerExtClassPath = extClassPath;
+            }
+        }
 
         container.getLoggerManager().setThresholds( cliRequest.request.getLoggingLevel() );
 
@@ -441,16 +513,20 @@ protected void configure()
         return container;
     }
 
-    private ClassRealm setupContainerRealm( CliRequest cliRequest )
-        throws Exception
+    private String getExtClassPath( CliRequest cliRequest )
     {
-        ClassRealm containerRealm = null;
-
         String extClassPath = cliRequest.userProperties.getProperty( EXT_CLASS_PATH );
         if ( extClassPath == null )
         {
             extClassPath = cliRequest.systemProperties.getProperty( EXT_CLASS_PATH );
         }
+        return extClassPath;
+    }
+
+    private ClassRealm setupContainerRealm( CliRequest cliRequest, String extClassPath )
+        throws Exception
+    {
+        ClassRealm containerRealm = null;
 
         if ( StringUtils.isNotEmpty( extClassPath ) )
         {
@@ -38,6 +38,11 @@ public void setRootLoggerLevel( Level level )
         logger.warn( "setRootLoggerLevel: operation not supported" );
     }
 
+    public void resetRootLoggerLevel()
+    {
+        // the level was never changed, there is nothing to restore
+    }
+
     public void activate()
     {
         logger.warn( "reset(): operation not supported" );
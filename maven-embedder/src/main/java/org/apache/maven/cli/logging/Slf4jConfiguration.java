@@ -40,6 +40,14 @@
      */
     void setRootLoggerLevel( Level level );
 
+    /**
+     * Restore the root logging level that was in effect before it was first set by
+     * {@link #setRootLoggerLevel(Level)}, i.e. the level configured for the logging implementation.
+     *
+     * @since 3.2.4
+     */
+    void resetRootLoggerLevel();
+
     /**
      * Activate logging implementation configuration (if necessary).
      */
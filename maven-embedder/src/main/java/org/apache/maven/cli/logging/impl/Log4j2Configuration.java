@@ -30,6 +30,12 @@
 public class Log4j2Configuration
     extends BaseSlf4jConfiguration
 {
+    private static final String ROOT_LEVEL_PROPERTY = "maven.logging.root.level";
+
+    private static boolean overridden;
+
+    private static String configuredLevel;
+
     @Override
     public void setRootLoggerLevel( Level level )
     {
@@ -48,7 +54,36 @@ public void setRootLoggerLevel( Level level )
                 value = "error";
                 break;
         }
-        System.setProperty( "maven.logging.root.level", value );
+
+        synchronized ( Log4j2Configuration.class )
+        {
+            if ( !overridden )
+            {
+                configuredLevel = System.getProperty( ROOT_LEVEL_PROPERTY );
+                overridden = true;
+            }
+            System.setProperty( ROOT_LEVEL_PROPERTY, value );
+        }
+    }
+
+    @Override
+    public void resetRootLoggerLevel()
+    {
+        synchronized ( Log4j2Configuration.class )
+        {
+            if ( overridden )
+            {
+                if ( configuredLevel != null )
+                {
+                    System.setProperty( ROOT_LEVEL_PROPERTY, configuredLevel );
+                }
+                else
+                {
+                    System.clearProperty( ROOT_LEVEL_PROPERTY );
+                }
+                overridden = false;
+            }
+        }
     }
 
     @Override
@@ -32,6 +32,10 @@
 public class LogbackConfiguration
     extends BaseSlf4jConfiguration
 {
+    private static boolean overridden;
+
+    private static ch.qos.logback.classic.Level configuredLevel;
+
     @Override
     public void setRootLoggerLevel( Level level )
     {
@@ -50,7 +54,34 @@ public void setRootLoggerLevel( Level level )
                 value = ch.qos.logback.classic.Level.ERROR;
                 break;
         }
-        ( (ch.qos.logback.classic.Logger) LoggerFactory.getLogger( Logger.ROOT_LOGGER_NAME ) ).setLevel( value );
+
+        synchronized ( LogbackConfiguration.class )
+        {
+            if ( !overridden )
+            {
+                configuredLevel = getRootLogger().getLevel();
+                overridden = true;
+            }
+            getRootLogger().setLevel( value );
+        }
+    }
+
+    @Override
+    public void resetRootLoggerLevel()
+    {
+        synchronized ( LogbackConfiguration.class )
+        {
+            if ( overridden )
+            {
+                getRootLogger().setLevel( configuredLevel );
+                overridden = false;
+            }
+        }
+    }
+
+    private static ch.qos.logback.classic.Logger getRootLogger()
+    {
+        return (ch.qos.logback.classic.Logger) LoggerFactory.getLogger( Logger.ROOT_LOGGER_NAME );
     }
 
     @Override
@@ -32,6 +32,12 @@
 public class Slf4jSimpleConfiguration
     extends BaseSlf4jConfiguration
 {
+    private static final String ROOT_LEVEL_PROPERTY = "org.slf4j.simpleLogger.defaultLogLevel";
+
+    private static boolean overridden;
+
+    private static String configuredLevel;
+
     @Override
     public void setRootLoggerLevel( Level level )
     {
@@ -50,7 +56,36 @@ public void setRootLoggerLevel( Level level )
                 value = "error";
                 break;
         }
-        System.setProperty( "org.slf4j.simpleLogger.defaultLogLevel", value );
+
+        synchronized ( Slf4jSimpleConfiguration.class )
+        {
+            if ( !overridden )
+            {
+                configuredLevel = System.getProperty( ROOT_LEVEL_PROPERTY );
+                overridden = true;
+            }
+            System.setProperty( ROOT_LEVEL_PROPERTY, value );
+        }
+    }
+
+    @Override
+    public void resetRootLoggerLevel()
+    {
+        synchronized ( Slf4jSimpleConfiguration.class )
+        {
+            if ( overridden )
+            {
+                if ( configuredLevel != null )
+                {
+                    System.setProperty( ROOT_LEVEL_PROPERTY, configuredLevel );
+                }
+                else
+                {
+                    System.clearProperty( ROOT_LEVEL_PROPERTY );
+                }
+                overridden = false;
+            }
+        }
     }
 
     @Override
@@ -22,49 +22,123 @@
 import java.io.PrintStream;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.aether.transfer.TransferCancelledException;
 import org.eclipse.aether.transfer.TransferEvent;
 import org.eclipse.aether.transfer.TransferResource;
 
 /**
- * Console download progress meter.
- * 
+ * Console download progress meter. Progress callbacks only update per-transfer counters, the status line itself is
+ * repainted at most once per repaint interval (10 times per second by default) by whichever thread first notices the
+ * interval has elapsed. The throughput is averaged since the start of the current batch of concurrent transfers.
+ *
  * @author <a href="mailto:brett@apache.org">Brett Porter</a>
  */
 public class ConsoleMavenTransferListener
     extends AbstractMavenTransferListener
 {
 
-    private Map<TransferResource, Long> downloads = new ConcurrentHashMap<TransferResource, Long>();
+    private static final long DEFAULT_REPAINT_INTERVAL = 100;
+
+    private final ConcurrentMap<TransferResource, AtomicLong> downloads =
+        new ConcurrentHashMap<TransferResource, AtomicLong>();
+
+    private final AtomicLong transferred = new AtomicLong();
+
+    private final AtomicLong lastRepaint;
+
+    private final long repaintInterval;
+
+    private volatile long startTime = -1;
 
     private int lastLength;
 
     public ConsoleMavenTransferListener( PrintStream out )
+    {
+        this( out, DEFAULT_REPAINT_INTERVAL );
+    }
+
+    /**
+     * Creates a new progress meter.
+     *
+     * @param out The stream to print the progress to, must not be {@code null}.
+     * @param repaintInterval The minimum number of milliseconds between two repaints of the status line, a value
+     *            {@code <= 0} repaints on every progress event.
+     */
+    public ConsoleMavenTransferListener( PrintStream out, long repaintInterval )
     {
         super( out );
+        this.repaintInterval = TimeUnit.MILLISECONDS.toNanos( Math.max( 0, repaintInterval ) );
+        this.lastRepaint = new AtomicLong( nanoTime() - this.repaintInterval );
     }
 
     @Override
     public void transferProgressed( TransferEvent event )
         throws TransferCancelledException
     {
+        if ( startTime < 0 )
+        {
+            startTime = nanoTime();
+        }
+
         TransferResource resource = event.getResource();
-        downloads.put( resource, event.getTransferredBytes() );
 
-        StringBuilder buffer = new StringBuilder( 64 );
+        AtomicLong complete = downloads.get( resource );
+        if ( complete == null )
+        {
+            complete = new AtomicLong();
+            AtomicLong existing = downloads.putIfAbsent( resource, complete );
+            if ( existing != null )
+            {
+                complete = existing;
+            }
+        }
+
+        long bytes = event.getTransferredBytes();
+        transferred.addAndGet( bytes - complete.getAndSet( bytes ) );
 
-        for ( Map.Entry<TransferResource, Long> entry : downloads.entrySet() )
+        long now = nanoTime();
+        long last = lastRepaint.get();
+        if ( now - last >= repaintInterval && lastRepaint.compareAndSet( last, now ) )
+        {
+            repaint( now );
+        }
+    }
+
+    /**
+     * Gets the current value of the time source used to schedule repaints and to measure the throughput.
+     *
+     * @return The current time in nanoseconds, only meaningful relative to other values returned by this method.
+     */
+    long nanoTime()
+    {
+        return System.nanoTime();
+    }
+
+    private synchronized void repaint( long now )
+    {
+        StringBuilder buffer = new StringBuilder( 128 );
+
+        long remaining = 0;
+
+        for ( Map.Entry<TransferResource, AtomicLong> entry : downloads.entrySet() )
         {
             long total = entry.getKey().getContentLength();
-            Long complete = entry.getValue();
-            // NOTE: This null check guards against http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=6312056
-            if ( complete != null )
+            long complete = entry.getValue().get();
+
+            buffer.append( getStatus( complete, total ) ).append( "  " );
+
+            if ( remaining >= 0 )
             {
-                buffer.append( getStatus( complete, total ) ).append( "  " );
+                remaining = ( total >= 0 ) ? remaining + Math.max( 0, total - complete ) : -1;
             }
         }
 
+        buffer.append( getThroughput( now, remaining ) );
+
         int pad = lastLength - buffer.length();
         lastLength = buffer.length();
         pad( buffer, pad );
@@ -93,6 +167,28 @@ else if ( complete >= 1024 )
         }
     }
 
+    private String getThroughput( long now, long remaining )
+    {
+        long duration = TimeUnit.NANOSECONDS.toMillis( now - startTime );
+        long bytes = transferred.get();
+        if ( startTime < 0 || duration <= 0 || bytes <= 0 )
+        {
+            return "";
+        }
+
+        long bytesPerSec = bytes * 1000 / duration;
+
+        StringBuilder buffer = new StringBuilder( 32 );
+        buffer.append( '(' ).append( toKB( bytesPerSec ) ).append( " KB/sec" );
+        if ( remaining >= 0 && bytesPerSec > 0 )
+        {
+            buffer.append( ", " ).append( ( remaining + bytesPerSec - 1 ) / bytesPerSec ).append( " s left" );
+        }
+        buffer.append( ')' );
+
+        return buffer.toString();
+    }
+
     private void pad( StringBuilder buffer, int spaces )
     {
         String block = "                                        ";
@@ -120,14 +216,23 @@ public void transferFailed( TransferEvent event )
         super.transferFailed( event );
     }
 
-    private void transferCompleted( TransferEvent event )
+    private synchronized void transferCompleted( TransferEvent event )
     {
         downloads.remove( event.getResource() );
 
+        if ( downloads.isEmpty() )
+        {
+            // measure the throughput of the next transfers on their own, idle time in between is not download time
+            startTime = -1;
+            transferred.set( 0 );
+        }
+
         StringBuilder buffer = new StringBuilder( 64 );
         pad( buffer, lastLength );
         buffer.append( '\r' );
         out.print( buffer.toString() );
+
+        lastLength = 0;
     }
 
 }
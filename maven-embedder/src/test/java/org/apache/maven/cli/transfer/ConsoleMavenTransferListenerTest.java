@@ -0,0 +1,157 @@
+package org.apache.maven.cli.transfer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+
+public class ConsoleMavenTransferListenerTest
+    extends TestCase
+{
+
+    private ByteArrayOutputStream buffer;
+
+    private PrintStream out;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        buffer = new ByteArrayOutputStream();
+        out = new PrintStream( buffer, true );
+    }
+
+    private TransferEvent newEvent( TransferResource resource, long transferred )
+    {
+        TransferEvent.Builder builder = new TransferEvent.Builder( new DefaultRepositorySystemSession(), resource );
+        return builder.setTransferredBytes( transferred ).build();
+    }
+
+    private TransferResource newResource( String name, long contentLength )
+    {
+        return new TransferResource( "http://repo/", name, null, null ).setContentLength( contentLength );
+    }
+
+    public void testRepaintsOnEveryEventWithoutInterval()
+        throws Exception
+    {
+        ConsoleMavenTransferListener listener = new ConsoleMavenTransferListener( out, 0 );
+        TransferResource resource = newResource( "a.jar", 4096 );
+
+        listener.transferProgressed( newEvent( resource, 1024 ) );
+        listener.transferProgressed( newEvent( resource, 2048 ) );
+
+        String output = buffer.toString();
+        assertTrue( output, output.contains( "1/4 KB" ) );
+        assertTrue( output, output.contains( "2/4 KB" ) );
+    }
+
+    public void testRepaintIsRateLimited()
+        throws Exception
+    {
+        ConsoleMavenTransferListener listener = new ConsoleMavenTransferListener( out, 60 * 1000 );
+        TransferResource resource = newResource( "a.jar", 4096 );
+
+        listener.transferProgressed( newEvent( resource, 1024 ) );
+        for ( int i = 1; i <= 1000; i++ )
+        {
+            listener.transferProgressed( newEvent( resource, 1024 + i ) );
+        }
+
+        String output = buffer.toString();
+        assertTrue( output, output.contains( "1/4 KB" ) );
+        assertFalse( output, output.contains( "2/4 KB" ) );
+        assertEquals( output, 1, output.split( "\r", -1 ).length - 1 );
+    }
+
+    public void testAggregatesConcurrentTransfers()
+        throws Exception
+    {
+        ConsoleMavenTransferListener listener = new ConsoleMavenTransferListener( out, 0 );
+        TransferResource a = newResource( "a.jar", 4096 );
+        TransferResource b = newResource( "b.pom", 512 );
+
+        listener.transferProgressed( newEvent( a, 3072 ) );
+        listener.transferProgressed( newEvent( b, 256 ) );
+
+        String output = buffer.toString();
+        String lastLine = output.substring( output.lastIndexOf( '\r', output.length() - 2 ) + 1 );
+        assertTrue( lastLine, lastLine.contains( "3/4 KB" ) );
+        assertTrue( lastLine, lastLine.contains( "256/512 B" ) );
+    }
+
+    public void testThroughputExcludesIdleTimeBetweenTransfers()
+        throws Exception
+    {
+        ManualClockListener listener = new ManualClockListener( out );
+        TransferResource a = newResource( "a.jar", 1024 );
+        TransferResource b = newResource( "b.jar", 100 * 1024 );
+
+        listener.transferProgressed( newEvent( a, 1024 ) );
+        listener.advance( 10 );
+        listener.transferSucceeded( newEvent( a, 1024 ) );
+
+        listener.advance( 1000 );
+        buffer.reset();
+
+        listener.transferProgressed( newEvent( b, 1024 ) );
+        listener.advance( 50 );
+        listener.transferProgressed( newEvent( b, 51 * 1024 ) );
+
+        String output = buffer.toString();
+        String lastLine = output.substring( output.lastIndexOf( '\r', output.length() - 2 ) + 1 );
+        // 51 KB in 50 ms, the idle second before the download would drop this below 50 KB/sec
+        assertTrue( lastLine, lastLine.contains( "(1020 KB/sec" ) );
+    }
+
+    private static class ManualClockListener
+        extends ConsoleMavenTransferListener
+    {
+
+        private long now;
+
+        ManualClockListener( PrintStream out )
+        {
+            super( out, 0 );
+        }
+
+        void advance( long millis )
+        {
+            now += TimeUnit.MILLISECONDS.toNanos( millis );
+        }
+
+        @Override
+        long nanoTime()
+        {
+            return now;
+        }
+
+    }
+
+}
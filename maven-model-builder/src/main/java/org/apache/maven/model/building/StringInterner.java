@@ -0,0 +1,92 @@
+package org.apache.maven.model.building;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes the strings of models. In large reactors, the same coordinates, versions and plugin configuration
+ * values recur in every module and would otherwise be held as separate copies by each effective model. Unlike
+ * {@link String#intern()}, the pooled strings are only weakly referenced and are released once no model uses them.
+ *
+ * @since 3.2.4
+ */
+public final class StringInterner
+{
+
+    private static final int SEGMENTS = 16;
+
+    private static final Segment[] POOL;
+
+    static
+    {
+        POOL = new Segment[SEGMENTS];
+        for ( int i = 0; i < SEGMENTS; i++ )
+        {
+            POOL[i] = new Segment();
+        }
+    }
+
+    private StringInterner()
+    {
+        // hide constructor
+    }
+
+    /**
+     * Gets the canonical instance of the specified string.
+     *
+     * @param string The string to canonicalize, may be {@code null}.
+     * @return The canonical string equal to the specified one or {@code null} if the input was {@code null}.
+     */
+    public static String intern( String string )
+    {
+        if ( string == null )
+        {
+            return null;
+        }
+
+        int hash = string.hashCode();
+        hash ^= hash >>> 16;
+
+        return POOL[hash & ( SEGMENTS - 1 )].intern( string );
+    }
+
+    private static final class Segment
+    {
+
+        private final Map<String, WeakReference<String>> strings = new WeakHashMap<String, WeakReference<String>>();
+
+        synchronized String intern( String string )
+        {
+            WeakReference<String> ref = strings.get( string );
+            String interned = ( ref != null ) ? ref.get() : null;
+            if ( interned == null )
+            {
+                strings.put( string, new WeakReference<String>( string ) );
+                interned = string;
+            }
+            return interned;
+        }
+
+    }
+
+}
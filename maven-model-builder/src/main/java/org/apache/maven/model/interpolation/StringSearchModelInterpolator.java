@@ -25,6 +25,7 @@
 import org.apache.maven.model.building.ModelProblem.Version;
 import org.apache.maven.model.building.ModelProblemCollector;
 import org.apache.maven.model.building.ModelProblemCollectorRequest;
+import org.apache.maven.model.building.StringInterner;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.interpolation.InterpolationPostProcessor;
 import org.codehaus.plexus.interpolation.Interpolator;
@@ -135,7 +136,11 @@ public Object run()
 
         private String interpolate( String value )
         {
-            return modelInterpolator.interpolateInternal( value, valueSources, postProcessors, problems );
+            String interpolated =
+                modelInterpolator.interpolateInternal( value, valueSources, postProcessors, problems );
+
+            // the same interpolated values recur in every module of a reactor, let their models share one copy
+            return ( interpolated != value ) ? StringInterner.intern( interpolated ) : interpolated;
         }
 
         private void traverseObjectWithParents( Class<?> cls, Object target )
@@ -21,8 +21,10 @@
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.DependencyManagement;
@@ -57,19 +59,27 @@ public void injectManagement( Model model, ModelBuildingRequest request, ModelPr
         public void mergeManagedDependencies( Model model )
         {
             DependencyManagement dependencyManagement = model.getDependencyManagement();
-            if ( dependencyManagement != null )
+            if ( dependencyManagement != null && !model.getDependencies().isEmpty() )
             {
                 Map<Object, Dependency> dependencies = new HashMap<Object, Dependency>();
+                Set<String> artifactIds = new HashSet<String>();
                 Map<Object, Object> context = Collections.emptyMap();
 
                 for ( Dependency dependency : model.getDependencies() )
                 {
                     Object key = getDependencyKey( dependency );
                     dependencies.put( key, dependency );
+                    artifactIds.add( dependency.getArtifactId() );
                 }
 
                 for ( Dependency managedDependency : dependencyManagement.getDependencies() )
                 {
+                    // most managed dependencies are not used by the model, rule them out before creating a key
+                    if ( !artifactIds.contains( managedDependency.getArtifactId() ) )
+                    {
+                        continue;
+                    }
+
                     Object key = getDependencyKey( managedDependency );
                     Dependency dependency = dependencies.get( key );
                     if ( dependency != null )
@@ -628,7 +628,8 @@ protected void mergeReportPlugin_ReportSets( ReportPlugin target, ReportPlugin s
     @Override
     protected Object getDependencyKey( Dependency dependency )
     {
-        return dependency.getManagementKey();
+        // equivalent to Dependency.getManagementKey() but without concatenating and rehashing the coordinates
+        return new DependencyKey( dependency );
     }
 
     @Override
@@ -725,4 +726,79 @@ else if ( result.endsWith( "/" ) && path.startsWith( "/" ) )
         return result;
     }
 
+    /**
+     * The management key of a dependency, i.e. its group id, artifact id, type and classifier. The coordinates are
+     * shared with the dependency and cache their own hash codes so creating and hashing the key is cheap even for
+     * large dependency management sections that get merged once per level of the parent lineage.
+     */
+    private static final class DependencyKey
+    {
+
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String type;
+
+        private final String classifier;
+
+        private final int hashCode;
+
+        DependencyKey( Dependency dependency )
+        {
+            groupId = dependency.getGroupId();
+            artifactId = dependency.getArtifactId();
+            type = dependency.getType();
+            classifier = dependency.getClassifier();
+
+            int hash = 17;
+            hash = hash * 31 + hash( groupId );
+            hash = hash * 31 + hash( artifactId );
+            hash = hash * 31 + hash( type );
+            hash = hash * 31 + hash( classifier );
+            hashCode = hash;
+        }
+
+        private static int hash( String str )
+        {
+            return ( str != null ) ? str.hashCode() : 0;
+        }
+
+        private static boolean eq( String s1, String s2 )
+        {
+            return ( s1 != null ) ? s1.equals( s2 ) : s2 == null;
+        }
+
+        @Override
+        public boolean equals( Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+            if ( !( obj instanceof DependencyKey ) )
+            {
+                return false;
+            }
+
+            DependencyKey that = (DependencyKey) obj;
+
+            return hashCode == that.hashCode && eq( artifactId, that.artifactId ) && eq( groupId, that.groupId )
+                && eq( type, that.type ) && eq( classifier, that.classifier );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public String toString()
+        {
+            return groupId + ":" + artifactId + ":" + type + ( classifier != null ? ":" + classifier : "" );
+        }
+
+    }
+
 }
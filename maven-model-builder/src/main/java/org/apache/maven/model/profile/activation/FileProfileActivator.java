@@ -97,50 +97,55 @@ else if ( StringUtils.isNotEmpty( file.getMissing() ) )
             return false;
         }
 
-        RegexBasedInterpolator interpolator = new RegexBasedInterpolator();
-
         final File basedir = context.getProjectDirectory();
 
-        if ( basedir != null )
+        // plain paths need no interpolation, save the setup of the interpolator
+        if ( path.contains( "${" ) )
         {
-            interpolator.addValueSource( new AbstractValueSource( false )
+            RegexBasedInterpolator interpolator = new RegexBasedInterpolator();
+
+            if ( basedir != null )
             {
-                public Object getValue( String expression )
+                interpolator.addValueSource( new AbstractValueSource( false )
                 {
-                    /*
-                     * NOTE: We intentionally only support ${basedir} and not ${project.basedir} as the latter form
-                     * would suggest that other project.* expressions can be used which is however beyond the design.
-                     */
-                    if ( "basedir".equals( expression ) )
+                    public Object getValue( String expression )
                     {
-                        return basedir.getAbsolutePath();
+                        /*
+                         * NOTE: We intentionally only support ${basedir} and not ${project.basedir} as the latter
+                         * form would suggest that other project.* expressions can be used which is however beyond the
+                         * design.
+                         */
+                        if ( "basedir".equals( expression ) )
+                        {
+                            return basedir.getAbsolutePath();
+                        }
+                        return null;
                     }
-                    return null;
-                }
-            } );
-        }
-        else if ( path.contains( "${basedir}" ) )
-        {
-            return false;
-        }
+                } );
+            }
+            else if ( path.contains( "${basedir}" ) )
+            {
+                return false;
+            }
 
-        interpolator.addValueSource( new MapBasedValueSource( context.getProjectProperties() ) );
+            interpolator.addValueSource( new MapBasedValueSource( context.getProjectProperties() ) );
 
-        interpolator.addValueSource( new MapBasedValueSource( context.getUserProperties() ) );
+            interpolator.addValueSource( new MapBasedValueSource( context.getUserProperties() ) );
 
-        interpolator.addValueSource( new MapBasedValueSource( context.getSystemProperties() ) );
+            interpolator.addValueSource( new MapBasedValueSource( context.getSystemProperties() ) );
 
-        try
-        {
-            path = interpolator.interpolate( path, "" );
-        }
-        catch ( Exception e )
-        {
-            problems.add( new ModelProblemCollectorRequest( Severity.ERROR, Version.BASE )
-                    .setMessage( "Failed to interpolate file location " + path + " for profile " + profile.getId() + ": " + e.getMessage() )
-                    .setLocation( file.getLocation( missing ? "missing" : "exists" ) )
-                    .setException( e ) );
-            return false;
+            try
+            {
+                path = interpolator.interpolate( path, "" );
+            }
+            catch ( Exception e )
+            {
+                problems.add( new ModelProblemCollectorRequest( Severity.ERROR, Version.BASE )
+                        .setMessage( "Failed to interpolate file location " + path + " for profile " + profile.getId() + ": " + e.getMessage() )
+                        .setLocation( file.getLocation( missing ? "missing" : "exists" ) )
+                        .setException( e ) );
+                return false;
+            }
         }
 
         path = pathTranslator.alignToBaseDirectory( path, basedir );
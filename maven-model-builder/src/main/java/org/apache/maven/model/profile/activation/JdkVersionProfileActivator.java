@@ -22,6 +22,8 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.maven.model.Activation;
 import org.apache.maven.model.Profile;
@@ -43,6 +45,14 @@
     implements ProfileActivator
 {
 
+    private static final int MAX_CACHED_RESULTS = 1024;
+
+    /**
+     * The outcomes of previous checks, keyed by the JDK requirement and the Java version. The same few requirements
+     * get evaluated for every module of a reactor, against the same Java version.
+     */
+    private final ConcurrentMap<List<String>, Boolean> results = new ConcurrentHashMap<List<String>, Boolean>();
+
     public boolean isActive( Profile profile, ProfileActivationContext context, ModelProblemCollector problems )
     {
         Activation activation = profile.getActivation();
@@ -69,6 +79,25 @@ public boolean isActive( Profile profile, ProfileActivationContext context, Mode
             return false;
         }
 
+        List<String> key = Arrays.asList( jdk, version );
+
+        Boolean result = results.get( key );
+
+        if ( result == null )
+        {
+            result = Boolean.valueOf( isActive( jdk, version ) );
+
+            if ( results.size() < MAX_CACHED_RESULTS )
+            {
+                results.put( key, result );
+            }
+        }
+
+        return result.booleanValue();
+    }
+
+    private static boolean isActive( String jdk, String version )
+    {
         if ( jdk.startsWith( "!" ) )
         {
             return !version.startsWith( jdk.substring( 1 ) );
@@ -20,7 +20,9 @@
  */
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Server;
@@ -49,6 +51,12 @@ public SettingsDecryptionResult decrypt( SettingsDecryptionRequest request )
     {
         List<SettingsProblem> problems = new ArrayList<SettingsProblem>();
 
+        /*
+         * Settings commonly use the same encrypted password for many servers. Each decryption by the dispatcher reloads
+         * the security settings and decrypts the master password, so only do that once per distinct value.
+         */
+        Map<String, String> decrypted = new HashMap<String, String>();
+
         List<Server> servers = new ArrayList<Server>();
 
         for ( Server server : request.getServers() )
@@ -59,7 +67,7 @@ public SettingsDecryptionResult decrypt( SettingsDecryptionRequest request )
 
             try
             {
-                server.setPassword( decrypt( server.getPassword() ) );
+                server.setPassword( decrypt( server.getPassword(), decrypted ) );
             }
             catch ( SecDispatcherException e )
             {
@@ -69,7 +77,7 @@ public SettingsDecryptionResult decrypt( SettingsDecryptionRequest request )
 
             try
             {
-                server.setPassphrase( decrypt( server.getPassphrase() ) );
+                server.setPassphrase( decrypt( server.getPassphrase(), decrypted ) );
             }
             catch ( SecDispatcherException e )
             {
@@ -88,7 +96,7 @@ public SettingsDecryptionResult decrypt( SettingsDecryptionRequest request )
 
             try
             {
-                proxy.setPassword( decrypt( proxy.getPassword() ) );
+                proxy.setPassword( decrypt( proxy.getPassword(), decrypted ) );
             }
             catch ( SecDispatcherException e )
             {
@@ -100,10 +108,21 @@ public SettingsDecryptionResult decrypt( SettingsDecryptionRequest request )
         return new DefaultSettingsDecryptionResult( servers, proxies, problems );
     }
 
-    private String decrypt( String str )
+    private String decrypt( String str, Map<String, String> decrypted )
         throws SecDispatcherException
     {
-        return ( str == null ) ? null : securityDispatcher.decrypt( str );
+        if ( str == null )
+        {
+            return null;
+        }
+
+        String result = decrypted.get( str );
+        if ( result == null )
+        {
+            result = securityDispatcher.decrypt( str );
+            decrypted.put( str, result );
+        }
+        return result;
     }
 
 }